@@ -6,10 +6,13 @@ import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.functionaljava.hkt.ListType;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -18,6 +21,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import fj.data.List;
 import lombok.experimental.UtilityClass;
@@ -151,7 +155,8 @@ public class ListInstances {
     public static <T,R> Monad<ListType.µ> monad(){
   
         BiFunction<Higher<ListType.µ,T>,Function<? super T, ? extends Higher<ListType.µ,R>>,Higher<ListType.µ,R>> flatMap = ListInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<ListType.µ,Xor<T,R>>>,Higher<ListType.µ,R>> tailRecM = ListInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -254,10 +259,11 @@ public class ListInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<ListType.µ> foldable(){
+    public static <T,R> Foldable<ListType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<ListType.µ,T>,T> foldRightFn =  (m,l)-> ListX.fromIterable(ListType.narrow(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<ListType.µ,T>,T> foldLeftFn = (m,l)-> ListX.fromIterable(ListType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<ListType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> ParallelFold.foldMap(m, fn, ListType.narrow(l), p);
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> ListType<T> concat(ListType<T> l1, ListType<T> l2){
@@ -274,6 +280,9 @@ public class ListInstances {
     private static <T,R> Higher<ListType.µ,R> flatMap( Higher<ListType.µ,T> lt, Function<? super T, ? extends  Higher<ListType.µ,R>> fn){
         return ListType.widen(ListType.narrow(lt).bind(in->fn.andThen(ListType::narrow).apply(in)));
     }
+    private static <T,R> Higher<ListType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<ListType.µ,Xor<T,R>>> fn){
+        return ListType.widen(List.iterableList(()->TailRec.iterator(initial, fn.andThen(ListType::narrow))));
+    }
     private static <T,R> ListType<R> map(ListType<T> lt, Function<? super T, ? extends R> fn){
         return ListType.widen(ListType.narrow(lt).map(in->fn.apply(in)));
     }
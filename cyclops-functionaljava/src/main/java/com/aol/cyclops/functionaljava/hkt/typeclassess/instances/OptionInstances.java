@@ -5,6 +5,7 @@ import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.functionaljava.FJ;
 import com.aol.cyclops.functionaljava.hkt.OptionType;
 import com.aol.cyclops.hkt.alias.Higher;
@@ -19,6 +20,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import fj.data.Option;
 import lombok.experimental.UtilityClass;
@@ -153,7 +155,8 @@ public class OptionInstances {
     public static <T,R> Monad<OptionType.µ> monad(){
   
         BiFunction<Higher<OptionType.µ,T>,Function<? super T, ? extends Higher<OptionType.µ,R>>,Higher<OptionType.µ,R>> flatMap = OptionInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<OptionType.µ,Xor<T,R>>>,Higher<OptionType.µ,R>> tailRecM = OptionInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -240,10 +243,11 @@ public class OptionInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<OptionType.µ> foldable(){
+    public static <T,R> Foldable<OptionType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<OptionType.µ,T>,T> foldRightFn =  (m,l)-> OptionType.narrow(l).orSome(m.zero());
         BiFunction<Monoid<T>,Higher<OptionType.µ,T>,T> foldLeftFn = (m,l)-> OptionType.narrow(l).orSome(m.zero());
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<OptionType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> OptionType.narrow(l).isSome() ? fn.apply(OptionType.narrow(l).some()) : m.zero();
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
     public static <T> Comonad<OptionType.µ> comonad(){
         Function<? super Higher<OptionType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(OptionType::narrow).some();
@@ -262,6 +266,12 @@ public class OptionInstances {
     private static <T,R> Higher<OptionType.µ,R> flatMap( Higher<OptionType.µ,T> lt, Function<? super T, ? extends  Higher<OptionType.µ,R>> fn){
         return OptionType.widen(OptionType.narrow(lt).bind(in->fn.andThen(OptionType::narrow).apply(in)));
     }
+    private static <T,R> Higher<OptionType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<OptionType.µ,Xor<T,R>>> fn){
+        Option<Xor<T,R>> next = OptionType.narrow(fn.apply(initial));
+        while(next.isSome() && next.some().isSecondary())
+            next = OptionType.narrow(fn.apply(next.some().secondaryGet()));
+        return OptionType.widen(next.map(Xor::get));
+    }
     private static <T,R> OptionType<R> map(OptionType<T> lt, Function<? super T, ? extends R> fn){
         
         return OptionType.widen(OptionType.narrow(lt).map(t->fn.apply(t)));
@@ -8,9 +8,12 @@ import java.util.function.Supplier;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.guava.hkt.FluentIterableType;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -19,6 +22,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 import com.google.common.collect.FluentIterable;
 
 import lombok.experimental.UtilityClass;
@@ -151,7 +155,8 @@ public class FluentIterableInstances {
     public static <T,R> Monad<FluentIterableType.µ> monad(){
   
         BiFunction<Higher<FluentIterableType.µ,T>,Function<? super T, ? extends Higher<FluentIterableType.µ,R>>,Higher<FluentIterableType.µ,R>> flatMap = FluentIterableInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<FluentIterableType.µ,Xor<T,R>>>,Higher<FluentIterableType.µ,R>> tailRecM = FluentIterableInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -251,10 +256,11 @@ public class FluentIterableInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<FluentIterableType.µ> foldable(){
+    public static <T,R> Foldable<FluentIterableType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<FluentIterableType.µ,T>,T> foldRightFn =  (m,l)-> ReactiveSeq.fromPublisher(FluentIterableType.narrowK(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<FluentIterableType.µ,T>,T> foldLeftFn = (m,l)-> ReactiveSeq.fromPublisher(FluentIterableType.narrowK(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<FluentIterableType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> ParallelFold.foldMap(m, fn, FluentIterableType.narrow(l), p);
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> FluentIterableType<T> concat(FluentIterableType<T> l1, FluentIterableType<T> l2){
@@ -269,6 +275,9 @@ public class FluentIterableInstances {
     private static <T,R> Higher<FluentIterableType.µ,R> flatMap( Higher<FluentIterableType.µ,T> lt, Function<? super T, ? extends  Higher<FluentIterableType.µ,R>> fn){
         return FluentIterableType.widen(FluentIterableType.narrowK(lt).transformAndConcat(i->fn.andThen(FluentIterableType::narrowK).apply(i)));
     }
+    private static <T,R> Higher<FluentIterableType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<FluentIterableType.µ,Xor<T,R>>> fn){
+        return FluentIterableType.widen(FluentIterable.from(()->TailRec.iterator(initial, fn.andThen(FluentIterableType::narrow))));
+    }
     private static <T,R> FluentIterableType<R> map(FluentIterableType<T> lt, Function<? super T, ? extends R> fn){
         return FluentIterableType.widen(lt.transform(i->fn.apply(i)));
     }
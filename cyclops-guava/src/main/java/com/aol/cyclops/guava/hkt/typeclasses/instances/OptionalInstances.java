@@ -5,6 +5,7 @@ import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.guava.Guava;
 import com.aol.cyclops.guava.hkt.OptionalType;
 import com.aol.cyclops.hkt.alias.Higher;
@@ -19,6 +20,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 import com.google.common.base.Optional;
 
 import lombok.experimental.UtilityClass;
@@ -153,7 +155,8 @@ public class OptionalInstances {
     public static <T,R> Monad<OptionalType.µ> monad(){
   
         BiFunction<Higher<OptionalType.µ,T>,Function<? super T, ? extends Higher<OptionalType.µ,R>>,Higher<OptionalType.µ,R>> flatMap = OptionalInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<OptionalType.µ,Xor<T,R>>>,Higher<OptionalType.µ,R>> tailRecM = OptionalInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -240,10 +243,11 @@ public class OptionalInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<OptionalType.µ> foldable(){
+    public static <T,R> Foldable<OptionalType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<OptionalType.µ,T>,T> foldRightFn =  (m,l)-> OptionalType.narrow(l).or(m.zero());
         BiFunction<Monoid<T>,Higher<OptionalType.µ,T>,T> foldLeftFn = (m,l)-> OptionalType.narrow(l).or(m.zero());
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<OptionalType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> OptionalType.narrow(l).isPresent() ? fn.apply(OptionalType.narrow(l).get()) : m.zero();
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
     public static <T> Comonad<OptionalType.µ> comonad(){
         Function<? super Higher<OptionalType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(OptionalType::narrow).get();
@@ -262,6 +266,12 @@ public class OptionalInstances {
     private static <T,R> Higher<OptionalType.µ,R> flatMap( Higher<OptionalType.µ,T> lt, Function<? super T, ? extends  Higher<OptionalType.µ,R>> fn){
         return OptionalType.widen(OptionalType.narrowOptional(lt).flatMap(in->fn.andThen(OptionalType::narrowOptional).apply(in)));
     }
+    private static <T,R> Higher<OptionalType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<OptionalType.µ,Xor<T,R>>> fn){
+        Optional<Xor<T,R>> next = OptionalType.narrow(fn.apply(initial));
+        while(next.isPresent() && next.get().isSecondary())
+            next = OptionalType.narrow(fn.apply(next.get().secondaryGet()));
+        return OptionalType.widen(next.transform(Xor::get));
+    }
     private static <T,R> OptionalType<R> map(OptionalType<T> lt, Function<? super T, ? extends R> fn){
         
         return OptionalType.widen(OptionalType.narrow(lt).transform(t->fn.apply(t)));
@@ -6,8 +6,11 @@ import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -18,6 +21,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
 import com.aol.cyclops.javaslang.FromCyclopsReact;
 import com.aol.cyclops.javaslang.hkt.ArrayType;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import javaslang.collection.Array;
 import lombok.experimental.UtilityClass;
@@ -151,7 +155,8 @@ public class ArrayInstances {
     public static <T,R> Monad<ArrayType.µ> monad(){
   
         BiFunction<Higher<ArrayType.µ,T>,Function<? super T, ? extends Higher<ArrayType.µ,R>>,Higher<ArrayType.µ,R>> flatMap = ArrayInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<ArrayType.µ,Xor<T,R>>>,Higher<ArrayType.µ,R>> tailRecM = ArrayInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -253,10 +258,14 @@ public class ArrayInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<ArrayType.µ> foldable(){
+    public static <T,R> Foldable<ArrayType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<ArrayType.µ,T>,T> foldRightFn =  (m,l)-> ReactiveSeq.fromIterable(ArrayType.narrow(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<ArrayType.µ,T>,T> foldLeftFn = (m,l)-> ReactiveSeq.fromIterable(ArrayType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<ArrayType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> {
+            Array<T> values = ArrayType.narrow(l);
+            return ParallelFold.foldMap(m, fn, values::get, values.length(), p);
+        };
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> ArrayType<T> concat(ArrayType<T> l1, ArrayType<T> l2){
@@ -271,6 +280,9 @@ public class ArrayInstances {
     private static <T,R> Higher<ArrayType.µ,R> flatMap( Higher<ArrayType.µ,T> lt, Function<? super T, ? extends  Higher<ArrayType.µ,R>> fn){
         return ArrayType.widen(ArrayType.narrow(lt).flatMap(fn.andThen(ArrayType::narrow)));
     }
+    private static <T,R> Higher<ArrayType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<ArrayType.µ,Xor<T,R>>> fn){
+        return ArrayType.widen(Array.ofAll(()->TailRec.iterator(initial, fn.andThen(ArrayType::narrow))));
+    }
     private static <T,R> ArrayType<R> map(ArrayType<T> lt, Function<? super T, ? extends R> fn){
         return ArrayType.widen(ArrayType.narrow(lt).map(in->fn.apply(in)));
     }
@@ -6,6 +6,7 @@ import java.util.function.Function;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
 import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
 import com.aol.cyclops.hkt.typeclasses.Unit;
@@ -19,8 +20,11 @@ import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
 import com.aol.cyclops.javaslang.Javaslang;
 import com.aol.cyclops.javaslang.hkt.FutureType;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import javaslang.concurrent.Future;
+import javaslang.concurrent.Promise;
+import javaslang.control.Try;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -151,7 +155,8 @@ public class FutureInstances {
     public static <T,R> Monad<FutureType.µ> monad(){
   
         BiFunction<Higher<FutureType.µ,T>,Function<? super T, ? extends Higher<FutureType.µ,R>>,Higher<FutureType.µ,R>> flatMap = FutureInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<FutureType.µ,Xor<T,R>>>,Higher<FutureType.µ,R>> tailRecM = FutureInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -238,10 +243,11 @@ public class FutureInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<FutureType.µ> foldable(){
+    public static <T,R> Foldable<FutureType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<FutureType.µ,T>,T> foldRightFn =  (m,l)-> m.apply(m.zero(), FutureType.narrow(l).get());
         BiFunction<Monoid<T>,Higher<FutureType.µ,T>,T> foldLeftFn = (m,l)->  m.apply(m.zero(), FutureType.narrow(l).get());
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<FutureType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> m.apply(m.zero(), fn.apply(FutureType.narrow(l).get()));
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
     public static <T> Comonad<FutureType.µ> comonad(){
         Function<? super Higher<FutureType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(FutureType::narrow).get();
@@ -258,6 +264,48 @@ public class FutureInstances {
     private static <T,R> Higher<FutureType.µ,R> flatMap( Higher<FutureType.µ,T> lt, Function<? super T, ? extends  Higher<FutureType.µ,R>> fn){
         return FutureType.widen(FutureType.narrow(lt).flatMap(fn.andThen(FutureType::narrowK)));
     }
+    private static <T,R> Higher<FutureType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<FutureType.µ,Xor<T,R>>> fn){
+        Promise<R> result = Promise.make();
+        tailRecLoop(initial, fn, result);
+        return FutureType.widen(result.future());
+    }
+    /*
+     * Completed steps are looped over on the calling thread, otherwise the loop resumes on the thread that completes
+     * the step, so the stack does not grow with the number of iterations.
+     */
+    private static <T,R> void tailRecLoop(T initial, Function<? super T, ? extends Higher<FutureType.µ,Xor<T,R>>> fn, Promise<R> result){
+        T value = initial;
+        for(;;){
+            final Future<Xor<T,R>> step;
+            try{
+                step = FutureType.narrow(fn.apply(value));
+            }catch(Throwable t){
+                result.failure(t);
+                return;
+            }
+            if(!step.isCompleted()){
+                step.onComplete(t->{
+                    if(t.isFailure())
+                        result.failure(t.getCause());
+                    else if(t.get().isPrimary())
+                        result.success(t.get().get());
+                    else
+                        tailRecLoop(t.get().secondaryGet(), fn, result);
+                });
+                return;
+            }
+            final Try<Xor<T,R>> completed = step.getValue().get();
+            if(completed.isFailure()){
+                result.failure(completed.getCause());
+                return;
+            }
+            if(completed.get().isPrimary()){
+                result.success(completed.get().get());
+                return;
+            }
+            value = completed.get().secondaryGet();
+        }
+    }
     private static <T,R> FutureType<R> map(FutureType<T> lt, Function<? super T, ? extends R> fn){
         return FutureType.widen(lt.map(fn));
     }
@@ -4,6 +4,7 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
 import com.aol.cyclops.hkt.jdk.CompletableFutureType;
@@ -19,6 +20,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
 import com.aol.cyclops.javaslang.FromCyclopsReact;
 import com.aol.cyclops.javaslang.Javaslang;
 import com.aol.cyclops.javaslang.hkt.LazyType;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import javaslang.Lazy;
 import lombok.experimental.UtilityClass;
@@ -152,7 +154,8 @@ public class LazyInstances {
     public static <T,R> Monad<LazyType.µ> monad(){
   
         BiFunction<Higher<LazyType.µ,T>,Function<? super T, ? extends Higher<LazyType.µ,R>>,Higher<LazyType.µ,R>> flatMap = LazyInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<LazyType.µ,Xor<T,R>>>,Higher<LazyType.µ,R>> tailRecM = LazyInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -237,10 +240,11 @@ public class LazyInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<LazyType.µ> foldable(){
+    public static <T,R> Foldable<LazyType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<LazyType.µ,T>,T> foldRightFn =  (m,l)-> LazyType.narrow(l).getOrElse(m.zero());
         BiFunction<Monoid<T>,Higher<LazyType.µ,T>,T> foldLeftFn = (m,l)-> LazyType.narrow(l).getOrElse(m.zero());
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<LazyType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> LazyType.narrow(l).<R>map(fn).getOrElse(m.zero());
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
     public static <T> Comonad<LazyType.µ> comonad(){
         Function<? super Higher<LazyType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(LazyType::narrow).get();
@@ -257,6 +261,14 @@ public class LazyInstances {
     private static <T,R> Higher<LazyType.µ,R> flatMap( Higher<LazyType.µ,T> lt, Function<? super T, ? extends  Higher<LazyType.µ,R>> fn){
         return LazyType.widen(LazyType.narrowEval(lt).flatMap(fn.andThen(LazyType::narrowEval)));
     }
+    private static <T,R> Higher<LazyType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<LazyType.µ,Xor<T,R>>> fn){
+        return LazyType.widen(Lazy.of(()->{
+            Xor<T,R> next = LazyType.narrow(fn.apply(initial)).get();
+            while(next.isSecondary())
+                next = LazyType.narrow(fn.apply(next.secondaryGet())).get();
+            return next.get();
+        }));
+    }
     private static <T,R> LazyType<R> map(LazyType<T> lt, Function<? super T, ? extends R> fn){
         return LazyType.widen(LazyType.narrow(lt).map(fn));
     }
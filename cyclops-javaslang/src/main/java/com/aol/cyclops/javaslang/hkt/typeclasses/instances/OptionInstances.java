@@ -5,6 +5,7 @@ import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
 import com.aol.cyclops.hkt.typeclasses.Unit;
@@ -19,6 +20,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
 import com.aol.cyclops.javaslang.FromCyclopsReact;
 import com.aol.cyclops.javaslang.Javaslang;
 import com.aol.cyclops.javaslang.hkt.OptionType;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import javaslang.control.Option;
 import lombok.experimental.UtilityClass;
@@ -152,7 +154,8 @@ public class OptionInstances {
     public static <T,R> Monad<OptionType.µ> monad(){
   
         BiFunction<Higher<OptionType.µ,T>,Function<? super T, ? extends Higher<OptionType.µ,R>>,Higher<OptionType.µ,R>> flatMap = OptionInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<OptionType.µ,Xor<T,R>>>,Higher<OptionType.µ,R>> tailRecM = OptionInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -237,10 +240,11 @@ public class OptionInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<OptionType.µ> foldable(){
+    public static <T,R> Foldable<OptionType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<OptionType.µ,T>,T> foldRightFn =  (m,l)-> OptionType.narrow(l).getOrElse(m.zero());
         BiFunction<Monoid<T>,Higher<OptionType.µ,T>,T> foldLeftFn = (m,l)-> OptionType.narrow(l).getOrElse(m.zero());
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<OptionType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> OptionType.narrow(l).<R>map(fn).getOrElse(m.zero());
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
     public static <T> Comonad<OptionType.µ> comonad(){
         Function<? super Higher<OptionType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(OptionType::narrow).get();
@@ -257,6 +261,12 @@ public class OptionInstances {
     private static <T,R> Higher<OptionType.µ,R> flatMap( Higher<OptionType.µ,T> lt, Function<? super T, ? extends  Higher<OptionType.µ,R>> fn){
         return OptionType.widen(OptionType.narrow(lt).flatMap(fn.andThen(OptionType::narrow)));
     }
+    private static <T,R> Higher<OptionType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<OptionType.µ,Xor<T,R>>> fn){
+        Option<Xor<T,R>> next = OptionType.narrow(fn.apply(initial));
+        while(next.isDefined() && next.get().isSecondary())
+            next = OptionType.narrow(fn.apply(next.get().secondaryGet()));
+        return OptionType.widen(next.map(Xor::get));
+    }
     private static <T,R> OptionType<R> map(OptionType<T> lt, Function<? super T, ? extends R> fn){
         return OptionType.widen(OptionType.narrow(lt).map(fn));
     }
@@ -6,8 +6,11 @@ import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -18,6 +21,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
 import com.aol.cyclops.javaslang.FromCyclopsReact;
 import com.aol.cyclops.javaslang.hkt.QueueType;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import javaslang.collection.Queue;
 import lombok.experimental.UtilityClass;
@@ -151,7 +155,8 @@ public class QueueInstances {
     public static <T,R> Monad<QueueType.µ> monad(){
   
         BiFunction<Higher<QueueType.µ,T>,Function<? super T, ? extends Higher<QueueType.µ,R>>,Higher<QueueType.µ,R>> flatMap = QueueInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<QueueType.µ,Xor<T,R>>>,Higher<QueueType.µ,R>> tailRecM = QueueInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -253,10 +258,11 @@ public class QueueInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<QueueType.µ> foldable(){
+    public static <T,R> Foldable<QueueType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<QueueType.µ,T>,T> foldRightFn =  (m,l)-> ReactiveSeq.fromIterable(QueueType.narrow(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<QueueType.µ,T>,T> foldLeftFn = (m,l)-> ReactiveSeq.fromIterable(QueueType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<QueueType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> ParallelFold.foldMap(m, fn, QueueType.narrow(l), p);
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> QueueType<T> concat(QueueType<T> l1, QueueType<T> l2){
@@ -271,6 +277,9 @@ public class QueueInstances {
     private static <T,R> Higher<QueueType.µ,R> flatMap( Higher<QueueType.µ,T> lt, Function<? super T, ? extends  Higher<QueueType.µ,R>> fn){
         return QueueType.widen(QueueType.narrow(lt).flatMap(fn.andThen(QueueType::narrow)));
     }
+    private static <T,R> Higher<QueueType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<QueueType.µ,Xor<T,R>>> fn){
+        return QueueType.widen(Queue.ofAll(()->TailRec.iterator(initial, fn.andThen(QueueType::narrow))));
+    }
     private static <T,R> QueueType<R> map(QueueType<T> lt, Function<? super T, ? extends R> fn){
         return QueueType.widen(QueueType.narrow(lt).map(in->fn.apply(in)));
     }
@@ -8,8 +8,11 @@ import java.util.function.Supplier;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -19,6 +22,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
 import com.aol.cyclops.javaslang.hkt.StreamType;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import javaslang.collection.Stream;
 import lombok.experimental.UtilityClass;
@@ -151,7 +155,8 @@ public class StreamInstances {
     public static <T,R> Monad<StreamType.µ> monad(){
   
         BiFunction<Higher<StreamType.µ,T>,Function<? super T, ? extends Higher<StreamType.µ,R>>,Higher<StreamType.µ,R>> flatMap = StreamInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<StreamType.µ,Xor<T,R>>>,Higher<StreamType.µ,R>> tailRecM = StreamInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -251,10 +256,11 @@ public class StreamInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<StreamType.µ> foldable(){
+    public static <T,R> Foldable<StreamType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<StreamType.µ,T>,T> foldRightFn =  (m,l)-> ReactiveSeq.fromIterable(StreamType.narrow(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<StreamType.µ,T>,T> foldLeftFn = (m,l)-> ReactiveSeq.fromIterable(StreamType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<StreamType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> ParallelFold.foldMap(m, fn, StreamType.narrow(l), p);
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> StreamType<T> concat(StreamType<T> l1, StreamType<T> l2){
@@ -269,6 +275,9 @@ public class StreamInstances {
     private static <T,R> Higher<StreamType.µ,R> flatMap( Higher<StreamType.µ,T> lt, Function<? super T, ? extends  Higher<StreamType.µ,R>> fn){
         return StreamType.widen(StreamType.narrowK(lt).flatMap(fn.andThen(StreamType::narrowK)));
     }
+    private static <T,R> Higher<StreamType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<StreamType.µ,Xor<T,R>>> fn){
+        return StreamType.widen(Stream.ofAll(()->TailRec.iterator(initial, fn.andThen(StreamType::narrow))));
+    }
     private static <T,R> StreamType<R> map(StreamType<T> lt, Function<? super T, ? extends R> fn){
         return StreamType.widen(lt.map(fn));
     }
@@ -6,8 +6,11 @@ import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -18,6 +21,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
 import com.aol.cyclops.javaslang.FromCyclopsReact;
 import com.aol.cyclops.javaslang.hkt.VectorType;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import javaslang.collection.Vector;
 import lombok.experimental.UtilityClass;
@@ -151,7 +155,8 @@ public class VectorInstances {
     public static <T,R> Monad<VectorType.µ> monad(){
   
         BiFunction<Higher<VectorType.µ,T>,Function<? super T, ? extends Higher<VectorType.µ,R>>,Higher<VectorType.µ,R>> flatMap = VectorInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<VectorType.µ,Xor<T,R>>>,Higher<VectorType.µ,R>> tailRecM = VectorInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -253,10 +258,14 @@ public class VectorInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<VectorType.µ> foldable(){
+    public static <T,R> Foldable<VectorType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<VectorType.µ,T>,T> foldRightFn =  (m,l)-> ReactiveSeq.fromIterable(VectorType.narrow(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<VectorType.µ,T>,T> foldLeftFn = (m,l)-> ReactiveSeq.fromIterable(VectorType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<VectorType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> {
+            Vector<T> values = VectorType.narrow(l);
+            return ParallelFold.foldMap(m, fn, values::get, values.length(), p);
+        };
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> VectorType<T> concat(VectorType<T> l1, VectorType<T> l2){
@@ -271,6 +280,9 @@ public class VectorInstances {
     private static <T,R> Higher<VectorType.µ,R> flatMap( Higher<VectorType.µ,T> lt, Function<? super T, ? extends  Higher<VectorType.µ,R>> fn){
         return VectorType.widen(VectorType.narrow(lt).flatMap(fn.andThen(VectorType::narrow)));
     }
+    private static <T,R> Higher<VectorType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<VectorType.µ,Xor<T,R>>> fn){
+        return VectorType.widen(Vector.ofAll(()->TailRec.iterator(initial, fn.andThen(VectorType::narrow))));
+    }
     private static <T,R> VectorType<R> map(VectorType<T> lt, Function<? super T, ? extends R> fn){
         return VectorType.widen(VectorType.narrow(lt).map(in->fn.apply(in)));
     }
@@ -13,6 +13,7 @@ import org.junit.Test;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
@@ -74,6 +75,15 @@ public class FuturesTest {
                                             .convert(FutureType::narrowK);
     }
     @Test
+    public void tailRecM(){
+        FutureType<Integer> future = FutureInstances.monad()
+                                            .<Integer,Integer>tailRecM(0, i-> i<100_000 && i%10_000==0 ? widen(Future.of(()->Xor.secondary(i+1)))
+                                                                                          : widen(Future.successful(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                            .convert(FutureType::narrowK);
+        
+        assertThat(future.get(),equalTo(100_000));
+    }
+    @Test
     public void monad(){
         
         FutureType<Integer> opt = FutureInstances.unit()
@@ -12,6 +12,7 @@ import org.junit.Test;
 
 import com.aol.cyclops.control.Maybe;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
@@ -71,6 +72,14 @@ public class ListTest {
                                       .convert(ListType::narrowK);
     }
     @Test
+    public void tailRecM(){
+        ListType<Integer> list = ListInstances.monad()
+                                      .<Integer,Integer>tailRecM(0, i-> i<100_000 ? widen(List.of(Xor.secondary(i+1))) : widen(List.of(Xor.primary(i),Xor.primary(-i))))
+                                      .convert(ListType::narrowK);
+        
+        assertThat(list.toJavaList(),equalTo(Arrays.asList(100_000,-100_000)));
+    }
+    @Test
     public void monad(){
         
         ListType<Integer> list = ListInstances.unit()
@@ -10,6 +10,7 @@ import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
@@ -68,6 +69,14 @@ public class OptionsTest {
                                             .convert(OptionType::narrowK);
     }
     @Test
+    public void tailRecM(){
+        OptionType<Integer> opt = OptionInstances.monad()
+                                      .<Integer,Integer>tailRecM(0, i-> widen(Option.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                      .convert(OptionType::narrowK);
+        
+        assertThat(opt.get(),equalTo(100_000));
+    }
+    @Test
     public void monad(){
         
         OptionType<Integer> opt = OptionInstances.unit()
@@ -8,7 +8,11 @@ import com.aol.cyclops.data.async.Queue;
 import com.aol.cyclops.data.async.QueueFactories;
 import com.aol.cyclops.data.async.QueueFactory;
 import com.aol.cyclops.reactor.flux.pushable.MultipleFluxSource;
+import com.aol.cyclops.reactor.flux.pushable.OverflowQueue;
+import com.aol.cyclops.reactor.flux.pushable.OverflowStrategy;
 import com.aol.cyclops.reactor.flux.pushable.PushableFlux;
+import com.aol.cyclops.reactor.flux.pushable.PushableMono;
+import com.aol.cyclops.reactor.flux.pushable.RingBufferFlux;
 import com.aol.cyclops.types.futurestream.LazyFutureStream;
 import com.aol.cyclops.util.stream.pushable.PushableLazyFutureStream;
 import com.aol.cyclops.util.stream.pushable.PushableReactiveSeq;
@@ -17,6 +21,7 @@ import com.aol.cyclops.util.stream.pushable.PushableStream;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Create Java 8 Streams that data can be pushed into
@@ -30,6 +35,7 @@ public class FluxSource {
 
     private final int backPressureAfter;
     private final boolean backPressureOn;
+    private final OverflowStrategy overflowStrategy;
 
     /**
      * @return a builder that will use Topics to allow multiple Streams from the same data
@@ -59,6 +65,31 @@ public class FluxSource {
                                                    .createQueue());
     }
 
+    /**
+     * Create a Flux that data can be pushed into from a single producer thread, backed by a pre-allocated
+     * single-producer / single-consumer ring buffer. Pushes do not allocate or block, values are emitted to the
+     * (single) Subscriber in batches sized to its outstanding demand.
+     *
+     * <pre>
+     * {@code
+     *  RingBufferFlux<Integer> flux = FluxSource.ofSingleProducer(1024);
+     *  flux.map(i->i*2)
+     *      .subscribe(System.out::println);
+     *
+     *  //on the producer thread
+     *  flux.push(1);
+     *  flux.pushAll(batch,0,batch.length);
+     *  flux.complete();
+     * }</pre>
+     *
+     * @param capacity Minimum ring buffer capacity (rounded up to the next power of 2)
+     * @return RingBufferFlux that data can be pushed into
+     */
+    public static <T> RingBufferFlux<T> ofSingleProducer(int capacity) {
+        return new RingBufferFlux<T>(
+                                     capacity);
+    }
+
     /**
      * Create a Pushable Flux source backed by a queue created by the supplied queue factory
      * <pre>
@@ -115,13 +146,44 @@ public class FluxSource {
             throw new IllegalArgumentException(
                                                "Can't apply back pressure after less than 1 event");
         return new FluxSource(
-                              backPressureAfter, true);
+                              backPressureAfter, true, null);
+    }
+
+    /**
+     * Create a Pushable Flux source backed by a bounded, non-blocking Queue. Once the Queue is full, rather than
+     * blocking producers the supplied OverflowStrategy is applied. The number of dropped and coalesced elements can be
+     * queried from the PushableFlux / PushableMono created by this source.
+     *
+     * <pre>
+     * {@code
+     *  //consumers are never more than 100 quotes behind, and always see the latest quote
+     *  PushableFlux<Quote> quotes = FluxSource.of(100,OverflowStrategy.KEEP_LATEST)
+     *                                         .flux();
+     *  quotes.getInput().offer(quote);
+     *
+     *  quotes.coalesced();
+     * }</pre>
+     *
+     * @param capacity Max queue size
+     * @param strategy Strategy to apply once the queue is full
+     * @return FluxSource for pushable stream source
+     */
+    public static FluxSource of(int capacity, OverflowStrategy strategy) {
+        Objects.requireNonNull(strategy);
+        if (capacity < 1)
+            throw new IllegalArgumentException(
+                                               "Can't apply an overflow strategy after less than 1 event");
+        return new FluxSource(
+                              capacity, true, strategy);
     }
 
     <T> Queue<T> createQueue() {
 
         Queue q;
-        if (!backPressureOn)
+        if (overflowStrategy != null)
+            q = new OverflowQueue<>(
+                                    backPressureAfter, overflowStrategy);
+        else if (!backPressureOn)
             q = QueueFactories.unboundedNonBlockingQueue()
                               .build();
         else
@@ -135,6 +197,7 @@ public class FluxSource {
         this.backPressureAfter = Runtime.getRuntime()
                                         .availableProcessors();
         this.backPressureOn = false;
+        this.overflowStrategy = null;
     }
 
     /**
@@ -188,6 +251,18 @@ public class FluxSource {
                                    q, Flux.from(q.stream()));
     }
 
+    /**
+     * Create a pushable Mono, that will emit the first value pushed into the Queue
+     * 
+     * @return a Tuple2 with a Queue&lt;T&gt; and Mono&lt;T&gt; - add data to the Queue
+     * to push it to the Mono
+     */
+    public <T> PushableMono<T> mono() {
+        Queue<T> q = createQueue();
+        return new PushableMono<T>(
+                                   q, Mono.from(q.stream()));
+    }
+
     /**
      * Create a pushable ReactiveSeq
      * 
@@ -0,0 +1,196 @@
+package com.aol.cyclops.control;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.aol.cyclops.data.async.Adapter;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Traffic metrics for a single pipe registered with {@link ReactorPipes}
+ * 
+ * Offered, accepted and rejected counts are exact. Time-in-queue latency is tracked for Queue backed pipes only, by
+ * timestamping every {@value #SAMPLE_INTERVAL}th value accepted and matching it (in FIFO order) against the values
+ * consumed via Streams, Fluxes or Subscribers obtained from ReactorPipes. Latencies are bucketed by powers of two
+ * nanoseconds, so percentiles are accurate to within a factor of two.
+ * 
+ * @author johnmcclean
+ *
+ */
+public class PipeMetrics {
+
+    static final int SAMPLE_INTERVAL = 64;
+    private static final int BUCKETS = 64;
+
+    private final Adapter<?> adapter;
+    private final boolean queue;
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder connected = new LongAdder();
+    private final LongAdder subscribed = new LongAdder();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dequeued = new AtomicLong();
+    private final ConcurrentLinkedQueue<long[]> samples = new ConcurrentLinkedQueue<>();
+    private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+    PipeMetrics(final Adapter<?> adapter) {
+        this.adapter = adapter;
+        this.queue = adapter.visit(q -> true, t -> false);
+        for (int i = 0; i < BUCKETS; i++)
+            histogram[i] = new LongAdder();
+    }
+
+    void recordOffered() {
+        offered.increment();
+    }
+
+    void recordAccepted() {
+        accepted.increment();
+        if (queue) {
+            final long seq = enqueued.getAndIncrement();
+            if (seq % SAMPLE_INTERVAL == 0)
+                samples.offer(new long[] { seq, System.nanoTime() });
+        }
+    }
+
+    void recordDelivered() { //handed straight to a waiting consumer, bypassing the Queue
+        accepted.increment();
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    void recordConnected() {
+        connected.increment();
+    }
+
+    void recordSubscribed() {
+        subscribed.increment();
+    }
+
+    void recordUnsubscribed() {
+        subscribed.decrement();
+    }
+
+    void recordDequeued() {
+        final long seq = dequeued.getAndIncrement();
+        if (seq % SAMPLE_INTERVAL != 0)
+            return;
+        long[] head;
+        while ((head = samples.peek()) != null && head[0] < seq)
+            samples.remove(head); //consumed outside ReactorPipes
+        if (head != null && head[0] == seq && samples.remove(head)) {
+            final long nanos = System.nanoTime() - head[1];
+            histogram[nanos <= 0 ? 0 : BUCKETS - Long.numberOfLeadingZeros(nanos) - 1].increment();
+        }
+    }
+
+    /**
+     * @return Running total of pushes, connections and values consumed, used to detect idle pipes
+     */
+    long activity() {
+        return offered.sum() + connected.sum() + dequeued.get();
+    }
+
+    /**
+     * @return Number of values pushed to this pipe
+     */
+    public long offered() {
+        return offered.sum();
+    }
+
+    /**
+     * @return Number of values accepted by the Adapter
+     */
+    public long accepted() {
+        return accepted.sum();
+    }
+
+    /**
+     * @return Number of values rejected by the Adapter (including those rejected because it was closed)
+     */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return Number of Streams, Fluxes and Subscribers currently connected to a Topic backed pipe via ReactorPipes
+     *         (each is counted until it completes, fails or is cancelled), -1 for Queue backed pipes
+     */
+    public long subscribers() {
+        return queue ? -1 : subscribed.sum();
+    }
+
+    /**
+     * @return Current size of the Queue for Queue backed pipes, -1 otherwise
+     */
+    public int queueDepth() {
+        return adapter.visit(q -> q.size(), t -> -1);
+    }
+
+    /**
+     * @param percentile Percentile to report (between 0 and 1)
+     * @return Upper bound of the time-in-queue histogram bucket containing the percentile, in nanoseconds (0 if
+     *         nothing recorded)
+     */
+    public long latencyNanos(final double percentile) {
+        if (percentile < 0 || percentile > 1)
+            throw new IllegalArgumentException(
+                                               "Percentile must be between 0 and 1");
+        final long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            total += counts[i] = histogram[i].sum();
+        if (total == 0)
+            return 0;
+        final long target = Math.max(1, (long) Math.ceil(total * percentile));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            seen += counts[i];
+            if (seen >= target)
+                return (1l << (i + 1)) - 1;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * @return Point in time copy of these metrics
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(
+                            offered(), accepted(), rejected(), subscribers(), queueDepth(), latencyNanos(0.5),
+                            latencyNanos(0.99));
+    }
+
+    /**
+     * Point in time copy of the metrics for a pipe
+     * 
+     * @author johnmcclean
+     *
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Snapshot {
+        private final long offered;
+        private final long accepted;
+        private final long rejected;
+        /**
+         * Current number of connected subscribers for Topic backed pipes, -1 otherwise
+         */
+        private final long subscribers;
+        /**
+         * Current size of the Queue for Queue backed pipes, -1 otherwise
+         */
+        private final int queueDepth;
+        private final long p50LatencyNanos;
+        private final long p99LatencyNanos;
+    }
+}
@@ -1,19 +1,30 @@
 package com.aol.cyclops.control;
 
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import com.aol.cyclops.data.LazyImmutable;
 import com.aol.cyclops.data.async.Adapter;
+import com.aol.cyclops.data.async.Queue;
+import com.aol.cyclops.data.async.Topic;
 import com.aol.cyclops.data.collections.extensions.persistent.PMapX;
 import com.aol.cyclops.react.threads.SequentialElasticPools;
 import com.aol.cyclops.reactor.collections.extensions.standard.LazyListX;
@@ -23,8 +34,11 @@ import com.aol.cyclops.types.stream.reactive.ValueSubscriber;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import reactor.core.Cancellation;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Operators;
 
 /**
  * Store for Pipes for cross-thread communication
@@ -38,7 +52,15 @@ import reactor.core.publisher.Mono;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ReactorPipes<K, V> {
 
-    private final ConcurrentMap<K, Adapter<V>> registered = new ConcurrentHashMap<>();
+    private static final int DEFAULT_PUBLISH_BATCH = 256;
+
+    private final ConcurrentMap<K, Pipe<V>> registered = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, Set<PublishSubscriber<V>>> publishers = new ConcurrentHashMap<>();
+    private volatile long idleNanos = -1l;
+    private volatile long ttlNanos = -1l;
+    private volatile int maxPipes = Integer.MAX_VALUE;
+    private volatile BiConsumer<? super K, ? super Adapter<V>> evictionListener = (k, a) -> {
+    };
 
     /**
      * @return Size of registered pipes
@@ -51,7 +73,41 @@ public class ReactorPipes<K, V> {
      * @return Persistent map of all registered pipes
      */
     public PMapX<K, Adapter<V>> registered() {
-        return PMapX.fromMap(registered);
+        return PMapX.fromMap(registered)
+                    .map(p -> p.adapter);
+    }
+
+    /**
+     * @return Snapshot of the traffic metrics of every registered pipe
+     */
+    public PMapX<K, PipeMetrics.Snapshot> metrics() {
+        return PMapX.fromMap(registered)
+                    .map(p -> p.metrics.snapshot());
+    }
+
+    /**
+     * @param key : Adapter identifier
+     * @return Traffic metrics for the selected pipe
+     */
+    public Maybe<PipeMetrics> metrics(final K key) {
+        return pipe(key).map(p -> p.metrics);
+    }
+
+    /**
+     * Periodically push a snapshot of the traffic metrics of every registered pipe to the supplied sink
+     * 
+     * <pre>
+     * {@code
+     *  Cancellation reporting = pipes.reportMetrics(snapshots -> snapshots.forEach(registry::record), Duration.ofSeconds(10));
+     * }</pre>
+     * 
+     * @param sink Metrics sink
+     * @param period Time between reports
+     * @return Cancellation that stops reporting
+     */
+    public Cancellation reportMetrics(final Consumer<? super PMapX<K, PipeMetrics.Snapshot>> sink, final Duration period) {
+        return Flux.interval(period)
+                   .subscribe(tick -> sink.accept(metrics()));
     }
 
     /**
@@ -64,7 +120,7 @@ public class ReactorPipes<K, V> {
     public static <K, V> ReactorPipes<K, V> of(final Map<K, Adapter<V>> registered) {
         Objects.requireNonNull(registered);
         final ReactorPipes<K, V> pipes = new ReactorPipes<>();
-        pipes.registered.putAll(registered);
+        registered.forEach(pipes::register);
         return pipes;
     }
 
@@ -87,8 +143,78 @@ public class ReactorPipes<K, V> {
      * @param value Value to push 
      */
     public void push(final K key, final V value) {
-        Optional.ofNullable(registered.get(key))
-                .ifPresent(a -> a.offer(value));
+        final Pipe<V> pipe = registered.get(key);
+        if (pipe != null)
+            pipe.offer(value);
+    }
+
+    /**
+     * Push the supplied values through the Adapter identified by the supplied key. The Adapter is looked up once for
+     * the whole batch, pushing stops at the first value the Adapter rejects.
+     * 
+     * <pre>
+     * {@code 
+     *  pipes.register("hello", new Queue<>());
+     *  pipes.pushAll("hello", ListX.of("world","world2"));  //2
+     * }</pre>
+     * 
+     * @param key Adapter key
+     * @param values Values to push
+     * @return Number of values accepted by the Adapter (0 if there is no Adapter for key)
+     */
+    public int pushAll(final K key, final Iterable<? extends V> values) {
+        final Pipe<V> pipe = registered.get(key);
+        if (pipe == null)
+            return 0;
+        int accepted = 0;
+        for (final V next : values) {
+            if (!pipe.offer(next))
+                break;
+            accepted++;
+        }
+        return accepted;
+    }
+
+    /**
+     * Push the supplied values through the Adapter identified by the supplied key
+     * 
+     * @see ReactorPipes#pushAll(Object, Iterable)
+     * @param key Adapter key
+     * @param values Values to push
+     * @return Number of values accepted by the Adapter (0 if there is no Adapter for key)
+     */
+    @SafeVarargs
+    public final int pushAll(final K key, final V... values) {
+        final Pipe<V> pipe = registered.get(key);
+        if (pipe == null)
+            return 0;
+        for (int i = 0; i < values.length; i++) {
+            if (!pipe.offer(values[i]))
+                return i;
+        }
+        return values.length;
+    }
+
+    /**
+     * Push batches of values to multiple Adapters, looking up each Adapter once per batch
+     * 
+     * <pre>
+     * {@code 
+     *  Map<String,List<Event>> batches = new HashMap<>();
+     *  batches.put("orders", ListX.of(o1,o2));
+     *  batches.put("quotes", ListX.of(q1));
+     *  pipes.pushBatch(batches); //3
+     * }</pre>
+     * 
+     * @see ReactorPipes#pushAll(Object, Iterable)
+     * @param batches Values to push, keyed by Adapter key
+     * @return Total number of values accepted
+     */
+    public int pushBatch(final Map<? extends K, ? extends Iterable<? extends V>> batches) {
+        int accepted = 0;
+        for (final Map.Entry<? extends K, ? extends Iterable<? extends V>> next : batches.entrySet())
+            accepted += pushAll(next.getKey(), next.getValue());
+        return accepted;
     }
 
     /**
@@ -97,7 +223,11 @@ public class ReactorPipes<K, V> {
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Maybe<Adapter<V>> get(final K key) {
-        return Maybe.ofNullable((Adapter) registered.get(key));
+        return pipe(key).map(p -> p.adapter);
+    }
+
+    private Maybe<Pipe<V>> pipe(final K key) {
+        return Maybe.ofNullable(registered.get(key));
     }
 
     /**
@@ -106,7 +236,7 @@ public class ReactorPipes<K, V> {
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Maybe<LazyFutureStream<V>> futureStream(final K key) {
-        return get(key).map(a -> a.futureStream());
+        return pipe(key).map(a -> a.futureStream());
     }
 
     /**
@@ -116,7 +246,7 @@ public class ReactorPipes<K, V> {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Maybe<LazyFutureStream<V>> futureStream(final K key, final LazyReact reactor) {
 
-        return get(key).map(a -> a.futureStream(reactor));
+        return pipe(key).map(a -> a.futureStream(reactor));
     }
 
     /**
@@ -125,7 +255,7 @@ public class ReactorPipes<K, V> {
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Maybe<ReactiveSeq<V>> reactiveSeq(final K key) {
-        return get(key).map(a -> a.stream());
+        return pipe(key).map(a -> a.stream());
     }
 
     /**
@@ -134,12 +264,12 @@ public class ReactorPipes<K, V> {
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Maybe<Flux<V>> flux(final K key) {
-        return get(key).map(a -> Flux.from(a.stream()));
+        return pipe(key).map(a -> a.flux());
     }
 
     public LazyListX<V> xValues(final K key, final long x) {
         final SeqSubscriber<V> sub = SeqSubscriber.subscriber();
-        return get(key).peek(a -> a.stream()
+        return pipe(key).peek(a -> a.read()
                                    .subscribe(sub))
                        .map(a -> LazyListX.fromStreamS(sub.stream()
                                                           .limit(x)))
@@ -154,14 +284,14 @@ public class ReactorPipes<K, V> {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Maybe<V> oneValue(final K key) {
         final ValueSubscriber<V> sub = ValueSubscriber.subscriber();
-        return get(key).peek(a -> a.stream()
+        return pipe(key).peek(a -> a.read()
                                    .subscribe(sub))
                        .flatMap(a -> sub.toMaybe());
     }
 
     public Xor<Throwable, V> oneOrError(final K key) {
         final ValueSubscriber<V> sub = ValueSubscriber.subscriber();
-        return get(key).peek(a -> a.stream()
+        return pipe(key).peek(a -> a.read()
                                    .subscribe(sub))
                        .map(a -> sub.toXor())
                        .orElse(Xor.secondary(new NoSuchElementException(
@@ -170,23 +300,91 @@ public class ReactorPipes<K, V> {
 
     public <X extends Throwable> Maybe<Try<V, X>> oneValueOrError(final K key, final Class<X>... classes) {
         final ValueSubscriber<V> sub = ValueSubscriber.subscriber();
-        return get(key).peek(a -> a.stream()
+        return pipe(key).peek(a -> a.read()
                                    .subscribe(sub))
                        .map(a -> sub.toTry(classes));
     }
 
     public Maybe<Try<V, Throwable>> oneValueOrError(final K key) {
         final ValueSubscriber<V> sub = ValueSubscriber.subscriber();
-        return get(key).peek(a -> a.stream()
+        return pipe(key).peek(a -> a.read()
                                    .subscribe(sub))
                        .map(a -> sub.toTry(Throwable.class));
     }
 
+    /**
+     * Asynchronously extract one value from the selected pipe. No thread is blocked while waiting, the returned Mono is
+     * completed directly by the next value pushed to the pipe via this ReactorPipes (or with a value already in the
+     * pipe's Queue).
+     * 
+     * The Mono errors with a NoSuchElementException if there is no pipe for key or the pipe is closed (via
+     * {@link #close(String)} or eviction) before a value arrives.
+     * 
+     * <pre>
+     * {@code
+     *  pipes.oneOrErrorAsync("hello")
+     *       .subscribe(this::handle);
+     *  pipes.push("hello", "world"); //handle called with "world" on this thread
+     * }</pre>
+     * 
+     * @param key : Adapter identifier
+     * @return Mono that completes with the next value from the selected pipe
+     */
+    public Mono<V> oneOrErrorAsync(final K key) {
+        return nextValueAsync(key).otherwiseIfEmpty(Mono.error(new NoSuchElementException(
+                                                                                            "no value available for key "
+                                                                                                    + key)));
+    }
+
+    /**
+     * @see ReactorPipes#oneOrErrorAsync(Object)
+     * @param key : Adapter identifier
+     * @param timeout Max time to wait, after which the Mono errors with a TimeoutException
+     * @return Mono that completes with the next value from the selected pipe
+     */
+    public Mono<V> oneOrErrorAsync(final K key, final Duration timeout) {
+        return oneOrErrorAsync(key).timeout(timeout);
+    }
+
+    /**
+     * Asynchronously extract the next value from the selected pipe, without blocking a thread while waiting.
+     * 
+     * The Mono completes empty if there is no pipe for key, or the pipe is closed (via {@link #close(String)} or
+     * eviction) before a value arrives. For Queue backed pipes each value is delivered to one waiter (or Queue
+     * consumer), for Topic backed pipes every waiter receives the next value.
+     * 
+     * @see ReactorPipes#oneOrErrorAsync(Object)
+     * @param key : Adapter identifier
+     * @return Mono that completes with the next value from the selected pipe
+     */
+    public Mono<V> nextValueAsync(final K key) {
+        return Mono.defer(() -> pipe(key).map(Pipe::next)
+                                         .orElse(Mono.empty()));
+    }
+
+    /**
+     * @see ReactorPipes#nextValueAsync(Object)
+     * @param key : Adapter identifier
+     * @param timeout Max time to wait, after which the Mono completes empty
+     * @return Mono that completes with the next value from the selected pipe
+     */
+    public Mono<V> nextValueAsync(final K key, final Duration timeout) {
+        return nextValueAsync(key).timeout(timeout, Mono.empty());
+    }
+
+    /**
+     * Extract one value from the selected pipe, blocking a thread from the supplied Executor while waiting
+     * 
+     * @see ReactorPipes#oneOrErrorAsync(Object) for a non-blocking alternative
+     * @param key : Adapter identifier
+     * @param ex Executor to wait on
+     * @return Mono that completes with the next value from the selected pipe
+     */
     public Mono<V> oneOrErrorAsync(final K key, final Executor ex) {
         final CompletableFuture<V> cf = CompletableFuture.supplyAsync(() -> {
 
             final ValueSubscriber<V> sub = ValueSubscriber.subscriber();
-            return get(key).peek(a -> a.stream()
+            return pipe(key).peek(a -> a.read()
                                        .subscribe(sub))
                            .map(a -> sub.toMaybe()
                                         .get())
@@ -207,7 +405,7 @@ public class ReactorPipes<K, V> {
     public Eval<Maybe<V>> nextValue(final K key) {
         final ValueSubscriber<V> sub = ValueSubscriber.subscriber();
         final LazyImmutable<Boolean> requested = LazyImmutable.def();
-        final Maybe<Eval<Maybe<V>>> nested = get(key).peek(a -> a.stream()
+        final Maybe<Eval<Maybe<V>>> nested = pipe(key).peek(a -> a.read()
                                                                  .subscribe(sub))
                                                      .map(a -> Eval.always(() -> {
                                                          if (requested.isSet()) {
@@ -232,7 +430,7 @@ public class ReactorPipes<K, V> {
     public Eval<V> nextOrNull(final K key) {
         final ValueSubscriber<V> sub = ValueSubscriber.subscriber();
         final LazyImmutable<Boolean> requested = LazyImmutable.def();
-        return get(key).peek(a -> a.stream()
+        return pipe(key).peek(a -> a.read()
                                    .subscribe(sub))
                        .map(a -> Eval.always(() -> {
                            if (requested.isSet()) {
@@ -267,15 +465,150 @@ public class ReactorPipes<K, V> {
      * 
      */
     public void register(final K key, final Adapter<V> adapter) {
-        registered.put(key, adapter);
+        registered.put(key, new Pipe<>(
+                                       adapter));
+        while (registered.size() > maxPipes) {
+            if (!evictLeastRecentlyActive(key))
+                break;
+        }
+
+    }
+
+    /**
+     * Evict (and close) pipes that have had no pushes, connections or values consumed via this ReactorPipes for the
+     * supplied time. Idle pipes are detected by {@link #evictExpired()}, so eviction happens within one sweep period of
+     * the idle time elapsing (see {@link #sweepEvery(Duration)}).
+     * 
+     * <pre>
+     * {@code
+     *  ReactorPipes<String,Event> pipes = ReactorPipes.<String,Event>of()
+     *                                                 .expireAfterIdle(Duration.ofMinutes(5))
+     *                                                 .maximumPipes(10_000)
+     *                                                 .onEviction((tenant,adapter)->log.info("evicted " + tenant));
+     *  pipes.sweepEvery(Duration.ofSeconds(30));
+     * }</pre>
+     * 
+     * @param idle Idle time after which a pipe is evicted
+     * @return This ReactorPipes
+     */
+    public ReactorPipes<K, V> expireAfterIdle(final Duration idle) {
+        idleNanos = idle.toNanos();
+        return this;
+    }
+
+    /**
+     * Evict (and close) pipes once the supplied time has elapsed since they were registered
+     * 
+     * @see ReactorPipes#expireAfterIdle(Duration)
+     * @param ttl Time after registration at which a pipe is evicted
+     * @return This ReactorPipes
+     */
+    public ReactorPipes<K, V> expireAfterRegistration(final Duration ttl) {
+        ttlNanos = ttl.toNanos();
+        return this;
+    }
+
+    /**
+     * Bound the number of registered pipes, registering a pipe beyond the bound evicts (and closes) the least recently
+     * active other pipe
+     * 
+     * @param max Maximum number of registered pipes
+     * @return This ReactorPipes
+     */
+    public ReactorPipes<K, V> maximumPipes(final int max) {
+        if (max < 1)
+            throw new IllegalArgumentException(
+                                               "Maximum pipes must be 1 or more");
+        maxPipes = max;
+        return this;
+    }
 
+    /**
+     * @param listener Called with the key and (closed) Adapter of every evicted pipe
+     * @return This ReactorPipes
+     */
+    public ReactorPipes<K, V> onEviction(final BiConsumer<? super K, ? super Adapter<V>> listener) {
+        evictionListener = Objects.requireNonNull(listener);
+        return this;
+    }
+
+    /**
+     * Evict (and close) all pipes that have expired according to {@link #expireAfterIdle(Duration)} and
+     * {@link #expireAfterRegistration(Duration)}
+     * 
+     * @return Number of pipes evicted
+     */
+    public int evictExpired() {
+        final long idle = idleNanos;
+        final long ttl = ttlNanos;
+        if (idle < 0 && ttl < 0)
+            return 0;
+        final long now = System.nanoTime();
+        int evicted = 0;
+        for (final Map.Entry<K, Pipe<V>> next : registered.entrySet()) {
+            final Pipe<V> pipe = next.getValue();
+            if ((ttl >= 0 && now - pipe.registeredNanos >= ttl) || (idle >= 0 && now - pipe.lastActive(now) >= idle)) {
+                if (evict(next.getKey(), pipe))
+                    evicted++;
+            }
+        }
+        return evicted;
     }
 
+    /**
+     * Run {@link #evictExpired()} periodically, on the Reactor timer rather than on the push path
+     * 
+     * @param period Time between sweeps
+     * @return Cancellation that stops the sweeper
+     */
+    public Cancellation sweepEvery(final Duration period) {
+        return Flux.interval(period)
+                   .subscribe(tick -> evictExpired());
+    }
+
+    private boolean evictLeastRecentlyActive(final K retain) {
+        final long now = System.nanoTime();
+        K oldestKey = null;
+        Pipe<V> oldest = null;
+        long oldestActive = Long.MAX_VALUE;
+        for (final Map.Entry<K, Pipe<V>> next : registered.entrySet()) {
+            if (Objects.equals(next.getKey(), retain))
+                continue;
+            final long active = now - next.getValue()
+                                          .lastActive(now);
+            if (oldest == null || active > oldestActive) {
+                oldestKey = next.getKey();
+                oldest = next.getValue();
+                oldestActive = active;
+            }
+        }
+        return oldest != null && evict(oldestKey, oldest);
+    }
+
+    private boolean evict(final K key, final Pipe<V> pipe) {
+        if (!registered.remove(key, pipe))
+            return false;
+        cancelPublishers(key);
+        pipe.close();
+        evictionListener.accept(key, pipe.adapter);
+        return true;
+    }
+
+    /**
+     * Remove all registered pipes, cancelling any Publishers publishing to them
+     */
     public void clear() {
         registered.clear();
+        publishers.keySet()
+                  .forEach(this::cancelPublishers);
 
     }
 
+    private void cancelPublishers(final Object key) {
+        Optional.ofNullable(publishers.remove(key))
+                .ifPresent(active -> active.forEach(PublishSubscriber::cancel));
+    }
+
     /**
      * Subscribe synchronously to a pipe
      * 
@@ -284,7 +617,7 @@ public class ReactorPipes<K, V> {
      */
     public void subscribeTo(final K key, final Subscriber<V> subscriber) {
         registered.get(key)
-                  .stream()
+                  .flux()
                   .subscribe(subscriber);
 
     }
@@ -301,14 +634,45 @@ public class ReactorPipes<K, V> {
     }
 
     /**
+     * Subscribe the Adapter identified by the supplied key to the supplied Publisher. Values are requested in
+     * bounded batches and offered to the Adapter on the Publisher's thread (no thread is dedicated to the Publisher).
+     * The subscription is cancelled if the Adapter is closed (or rejects a value), or if the pipe is closed via
+     * {@link #close(String)}.
+     * 
+     * <pre>
+     * {@code 
+     *  pipes.register("prices", QueueFactories.<Price>boundedQueue(1000).build());
+     *  pipes.publishTo("prices", priceFeed, 1000);
+     * }</pre>
+     * 
      * @param key for registered simple-react async.Adapter
      * @param publisher Reactive Streams publisher  to push data onto this pipe
      */
     public void publishTo(final K key, final Publisher<V> publisher) {
-        final SeqSubscriber<V> sub = SeqSubscriber.subscriber();
+        publishTo(key, publisher, DEFAULT_PUBLISH_BATCH);
+    }
+
+    /**
+     * Subscribe the Adapter identified by the supplied key to the supplied Publisher, sizing each request to the free
+     * capacity of the Adapter (for Queue based Adapters, the supplied capacity less the current depth of the Queue).
+     * 
+     * @see ReactorPipes#publishTo(Object, Publisher)
+     * @param key for registered simple-react async.Adapter
+     * @param publisher Reactive Streams publisher  to push data onto this pipe
+     * @param capacity Capacity of the Adapter, the maximum number of values requested from the Publisher at once
+     */
+    public void publishTo(final K key, final Publisher<V> publisher, final int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException(
+                                               "Capacity must be 1 or more");
+        final Pipe<V> pipe = registered.get(key);
+        if (pipe == null)
+            return;
+        final Set<PublishSubscriber<V>> active = publishers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+        final PublishSubscriber<V> sub = new PublishSubscriber<>(
+                                                                 pipe, capacity, active);
+        active.add(sub);
         publisher.subscribe(sub);
-        registered.get(key)
-                  .fromStream(sub.stream());
     }
 
     /**
@@ -321,12 +685,306 @@ public class ReactorPipes<K, V> {
     }
 
     /**
-     * @param key Close the Adapter defined by the supplied key
+     * @param key Close the Adapter defined by the supplied key (cancelling any Publishers publishing to it)
      */
     public void close(final String key) {
+        cancelPublishers(key);
         Optional.ofNullable(registered.get(key))
-                .ifPresent(a -> a.close());
+                .ifPresent(Pipe::close);
+
+    }
+
+    /**
+     * A registered Adapter and its metrics
+     */
+    private static final class Pipe<V> {
+        final Adapter<V> adapter;
+        final PipeMetrics metrics;
+        final long registeredNanos = System.nanoTime();
+        private volatile long lastActivity = 0;
+        private volatile long lastActiveNanos = registeredNanos;
+        private final boolean queue;
+        private final ConcurrentLinkedQueue<Waiter<V>> waiters = new ConcurrentLinkedQueue<>();
+        private volatile boolean closed;
+
+        Pipe(final Adapter<V> adapter) {
+            this.adapter = adapter;
+            this.metrics = new PipeMetrics(
+                                           adapter);
+            this.queue = adapter.visit(q -> true, t -> false);
+        }
+
+        /**
+         * Activity is detected by comparing the metric counters against their value on the previous check, so the push
+         * path is not burdened with access time tracking
+         */
+        long lastActive(final long now) {
+            final long activity = metrics.activity();
+            if (activity != lastActivity) {
+                lastActivity = activity;
+                lastActiveNanos = now;
+            }
+            return lastActiveNanos;
+        }
+
+        boolean offer(final V value) {
+            metrics.recordOffered();
+            if (!waiters.isEmpty()) {
+                Waiter<V> waiter;
+                while ((waiter = waiters.poll()) != null) {
+                    if (waiter.complete(value) && queue) {
+                        metrics.recordDelivered();
+                        return true;
+                    }
+                }
+            }
+            final boolean accepted;
+            try {
+                accepted = adapter.offer(value);
+            } catch (final RuntimeException e) {
+                metrics.recordRejected();
+                throw e;
+            }
+            if (accepted)
+                metrics.recordAccepted();
+            else
+                metrics.recordRejected();
+            return accepted;
+        }
+
+        Mono<V> next() {
+            return Mono.create(sink -> {
+                final Waiter<V> waiter = new Waiter<>(
+                                                      sink);
+                if (poll(waiter))
+                    return;
+                waiters.add(waiter);
+                sink.setCancellation(() -> {
+                    if (waiter.cancel())
+                        waiters.remove(waiter);
+                });
+                if (closed)
+                    waiter.empty();
+                else
+                    poll(waiter); //a value may have been queued while registering
+            });
+        }
+
+        /**
+         * @return true if a value was taken from the Queue
+         */
+        private boolean poll(final Waiter<V> waiter) {
+            if (!queue)
+                return false;
+            final V value = adapter.visit(q -> {
+                try {
+                    return q.size() > 0 ? q.poll(1, TimeUnit.NANOSECONDS) : null;
+                } catch (final Queue.QueueTimeoutException | Queue.ClosedQueueException e) {
+                    return null;
+                }
+            } , t -> null);
+            if (value == null)
+                return false;
+            metrics.recordDequeued();
+            if (waiter.complete(value))
+                waiters.remove(waiter);
+            else
+                adapter.offer(value); //waiter was completed or cancelled concurrently, return the value to the Queue
+            return true;
+        }
+
+        void close() {
+            closed = true;
+            adapter.close();
+            Waiter<V> waiter;
+            while ((waiter = waiters.poll()) != null)
+                waiter.empty();
+        }
+
+        ReactiveSeq<V> stream() {
+            metrics.recordConnected();
+            return adapter.visit(q -> q.stream()
+                                       .peek(v -> metrics.recordDequeued()),
+                                 t -> ReactiveSeq.fromIterator(new TopicSubscription(
+                                                                                     t)));
+        }
+
+        Flux<V> flux() {
+            metrics.recordConnected();
+            return adapter.visit(q -> Flux.from(q.stream()
+                                                 .peek(v -> metrics.recordDequeued())),
+                                 t -> {
+                                     final TopicSubscription sub = new TopicSubscription(
+                                                                                         t);
+                                     return Flux.fromIterable(() -> sub)
+                                                .doOnCancel(sub::cancel);
+                                 });
+        }
+
+        LazyFutureStream<V> futureStream() {
+            return futureStream(new LazyReact());
+        }
+
+        LazyFutureStream<V> futureStream(final LazyReact reactor) {
+            metrics.recordConnected();
+            return adapter.visit(q -> q.futureStream(reactor)
+                                       .peek(v -> metrics.recordDequeued()),
+                                 t -> reactor.from(new TopicSubscription(
+                                                                                 t)));
+        }
+
+        /**
+         * One-shot reads (oneValue, nextValue etc) count as activity, but are not reported as Topic subscribers
+         */
+        ReactiveSeq<V> read() {
+            metrics.recordConnected();
+            return adapter.visit(q -> q.stream()
+                                       .peek(v -> metrics.recordDequeued()),
+                                 t -> t.stream());
+        }
+
+        /**
+         * A connection to a Topic, reported as a subscriber until it completes, fails or is cancelled (cancelling also
+         * disconnects it from the Topic)
+         */
+        private final class TopicSubscription extends AtomicBoolean implements Iterator<V> {
+            private static final long serialVersionUID = 1L;
+            private final Topic<V> topic;
+            private final ReactiveSeq<V> stream;
+            private final Iterator<V> it;
+
+            TopicSubscription(final Topic<V> topic) {
+                this.topic = topic;
+                this.stream = topic.stream();
+                this.it = stream.iterator();
+                metrics.recordSubscribed();
+            }
+
+            @Override
+            public boolean hasNext() {
+                final boolean more;
+                try {
+                    more = it.hasNext();
+                } catch (final RuntimeException e) {
+                    disconnected();
+                    throw e;
+                }
+                if (!more)
+                    disconnected();
+                return more;
+            }
+
+            @Override
+            public V next() {
+                return it.next();
+            }
+
+            void cancel() {
+                disconnected();
+                topic.disconnect(stream);
+            }
+
+            private void disconnected() {
+                if (compareAndSet(false, true))
+                    metrics.recordUnsubscribed();
+            }
+        }
+    }
+
+    private static final class Waiter<V> extends AtomicBoolean {
+        private static final long serialVersionUID = 1L;
+        private final MonoSink<V> sink;
+
+        Waiter(final MonoSink<V> sink) {
+            this.sink = sink;
+        }
+
+        boolean complete(final V value) {
+            if (!compareAndSet(false, true))
+                return false;
+            sink.success(value);
+            return true;
+        }
+
+        void empty() {
+            if (compareAndSet(false, true))
+                sink.success();
+        }
+
+        boolean cancel() {
+            return compareAndSet(false, true);
+        }
+    }
 
+    private static final class PublishSubscriber<V> implements Subscriber<V> {
+        private final Pipe<V> pipe;
+        private final int capacity;
+        private final Set<PublishSubscriber<V>> active;
+        private volatile Subscription s;
+        private volatile boolean cancelled;
+        private long outstanding;
+
+        PublishSubscriber(final Pipe<V> pipe, final int capacity, final Set<PublishSubscriber<V>> active) {
+            this.pipe = pipe;
+            this.capacity = capacity;
+            this.active = active;
+        }
+
+        @Override
+        public void onSubscribe(final Subscription s) {
+            if (!Operators.validate(this.s, s))
+                return;
+            this.s = s;
+            if (cancelled) {
+                s.cancel();
+                return;
+            }
+            replenish();
+        }
+
+        @Override
+        public void onNext(final V value) {
+            outstanding--;
+            boolean accepted;
+            try {
+                accepted = pipe.offer(value);
+            } catch (final Queue.ClosedQueueException e) {
+                accepted = false;
+            }
+            if (!accepted)
+                cancel();
+            else if (outstanding <= capacity / 2)
+                replenish();
+        }
+
+        private void replenish() {
+            if (cancelled)
+                return;
+            final int depth = Math.max(0, pipe.metrics.queueDepth());
+            final long n = Math.max(1, capacity - depth) - outstanding;
+            if (n > 0) {
+                outstanding += n;
+                s.request(n);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            active.remove(this);
+        }
+
+        @Override
+        public void onComplete() {
+            active.remove(this);
+        }
+
+        void cancel() {
+            cancelled = true;
+            final Subscription current = s;
+            if (current != null)
+                current.cancel();
+            active.remove(this);
+        }
     }
 
 }
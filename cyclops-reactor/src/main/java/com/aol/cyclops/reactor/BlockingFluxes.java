@@ -0,0 +1,414 @@
+package com.aol.cyclops.reactor;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+import lombok.experimental.UtilityClass;
+import reactor.core.publisher.Flux;
+
+/**
+ * The original implementations of the materializing operators in {@link Fluxes}. Each operator pulls the source Flux
+ * through a blocking Iterator (or blocks on a collected Mono) on first use.
+ * 
+ * Retained so the behaviour and performance of the non-blocking implementations can be compared with them
+ * see {@link Fluxes#useBlockingOperators(boolean)}
+ * 
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+class BlockingFluxes {
+
+    static <T> Flux<T> reverse(Flux<T> flux) {
+
+        return Flux.fromIterable(() -> new Iterator<T>() {
+
+            Iterator<T> it;
+
+            private void init() {
+                if (it == null) {
+                    List<T> list = flux.collect(Collectors.toList())
+                                       .block();
+                    ReactiveSeq<T> seq = ReactiveSeq.fromList(list)
+                                                    .reverse();
+                    it = seq.iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                init();
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                init();
+                return it.next();
+            }
+
+        });
+    }
+
+    static <T> Flux<T> shuffle(Flux<T> flux) {
+
+        return Flux.fromIterable(() -> new Iterator<T>() {
+
+            Iterator<T> it;
+
+            private void init() {
+                if (it == null) {
+                    List<T> list = flux.collect(Collectors.toList())
+                                       .block();
+                    Collections.shuffle(list);
+
+                    it = list.iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                init();
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                init();
+                return it.next();
+            }
+
+        });
+    }
+
+    static <T> Flux<T> shuffle(Flux<T> flux, Random random) {
+
+        return Flux.fromIterable(() -> new Iterator<T>() {
+
+            Iterator<T> it;
+
+            private void init() {
+                if (it == null) {
+                    List<T> list = flux.collect(Collectors.toList())
+                                       .block();
+                    Collections.shuffle(list, random);
+
+                    it = list.iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                init();
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                init();
+                return it.next();
+            }
+
+        });
+    }
+
+    static <T> Flux<T> sorted(Flux<T> flux) {
+
+        return Flux.fromIterable(() -> new Iterator<T>() {
+
+            Iterator<T> it;
+
+            private void init() {
+                if (it == null) {
+                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
+                    it = seq.sorted()
+                            .iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                init();
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                init();
+                return it.next();
+            }
+
+        });
+    }
+
+    static <T, U> Flux<T> sorted(Flux<T> flux, Function<? super T, ? extends U> function) {
+        return Flux.fromIterable(() -> new Iterator<T>() {
+
+            Iterator<T> it;
+
+            private void init() {
+                if (it == null) {
+                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
+                    it = seq.sorted(Comparator.comparing(function, Fluxes.<U> naturalOrder()))
+                            .iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                init();
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                init();
+                return it.next();
+            }
+
+        });
+    }
+
+    static <T> Flux<T> sorted(Flux<T> flux, Comparator<? super T> c) {
+
+        return Flux.fromIterable(() -> new Iterator<T>() {
+
+            Iterator<T> it;
+
+            private void init() {
+                if (it == null) {
+                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
+                    it = seq.sorted(c)
+                            .iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                init();
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                init();
+                return it.next();
+            }
+
+        });
+    }
+
+    static <T, U> Flux<U> scanRight(Flux<T> flux, U identity,
+            BiFunction<? super T, ? super U, ? extends U> combiner) {
+
+        return Flux.fromIterable(() -> new Iterator<U>() {
+
+            Iterator<U> it;
+
+            private void init() {
+                if (it == null) {
+                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
+                    it = seq.scanRight(identity, combiner)
+                            .iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                init();
+                return it.hasNext();
+            }
+
+            @Override
+            public U next() {
+                init();
+                return it.next();
+            }
+
+        });
+    }
+
+    static <T> Flux<T> scanRight(Flux<T> flux, Monoid<T> monoid) {
+
+        return Flux.fromIterable(() -> new Iterator<T>() {
+
+            Iterator<T> it;
+
+            private void init() {
+                if (it == null) {
+                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
+                    it = seq.scanRight(monoid)
+                            .iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                init();
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                init();
+                return it.next();
+            }
+
+        });
+    }
+
+    static <T> Flux<T> removeAll(Flux<T> flux, Iterable<? extends T> iterable) {
+        return Flux.fromIterable(() -> new Iterator<T>() {
+
+            Iterator<T> it;
+
+            private void init() {
+                if (it == null) {
+                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
+                    it = seq.removeAll(iterable)
+                            .iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                init();
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                init();
+                return it.next();
+            }
+
+        });
+    }
+
+    static <T> Flux<T> retainAll(Flux<T> flux, Iterable<? extends T> iterable) {
+        return Flux.fromIterable(() -> new Iterator<T>() {
+
+            Iterator<T> it;
+
+            private void init() {
+                if (it == null) {
+                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
+                    it = seq.retainAll(iterable)
+                            .iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                init();
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                init();
+                return it.next();
+            }
+
+        });
+    }
+
+    static <T> Flux<ListX<T>> sliding(Flux<T> flux, int windowSize, int increment) {
+        return Flux.fromIterable(() -> new Iterator<ListX<T>>() {
+
+            Iterator<ListX<T>> it;
+
+            private void init() {
+                if (it == null) {
+                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
+                    it = seq.sliding(windowSize, increment)
+                            .iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                init();
+                return it.hasNext();
+            }
+
+            @Override
+            public ListX<T> next() {
+                init();
+                return it.next();
+            }
+
+        });
+    }
+
+    static <T> Flux<ListX<T>> grouped(Flux<T> flux, int size) {
+        return Flux.fromIterable(() -> new Iterator<ListX<T>>() {
+
+            Iterator<ListX<T>> it;
+
+            private void init() {
+                if (it == null) {
+                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
+                    it = seq.grouped(size)
+                            .iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                init();
+                return it.hasNext();
+            }
+
+            @Override
+            public ListX<T> next() {
+                init();
+                return it.next();
+            }
+
+        });
+    }
+
+    static <T> Flux<ListX<T>> groupedStatefullyUntil(final Flux<T> flux,
+            final BiPredicate<ListX<? super T>, ? super T> predicate) {
+
+        return Flux.fromIterable(() -> new Iterator<ListX<T>>() {
+
+            Iterator<ListX<T>> it;
+
+            private void init() {
+                if (it == null) {
+                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
+                    it = seq.groupedStatefullyUntil(predicate)
+                            .iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                init();
+                return it.hasNext();
+            }
+
+            @Override
+            public ListX<T> next() {
+                init();
+                return it.next();
+            }
+
+        });
+
+    }
+
+}
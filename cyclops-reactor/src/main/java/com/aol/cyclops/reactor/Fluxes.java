@@ -1,11 +1,15 @@
 package com.aol.cyclops.reactor;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
@@ -13,7 +17,6 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
 import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
@@ -28,7 +31,17 @@ import com.aol.cyclops.control.Publishers;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.Trampoline;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.data.collections.extensions.standard.SetX;
+import com.aol.cyclops.reactor.operators.ExternalSort;
+import com.aol.cyclops.reactor.operators.FilterIndexed;
+import com.aol.cyclops.reactor.operators.FilterIndexed.IndexedPredicate;
+import com.aol.cyclops.reactor.operators.FusedFlux;
+import com.aol.cyclops.reactor.operators.GroupBySize;
 import com.aol.cyclops.reactor.operators.GroupedWhile;
+import com.aol.cyclops.reactor.operators.InsertAt;
+import com.aol.cyclops.reactor.operators.MapIndexed;
+import com.aol.cyclops.reactor.operators.MapIndexed.IndexedFunction;
+import com.aol.cyclops.reactor.operators.SortedFlux;
 import com.aol.cyclops.types.anyM.AnyMSeq;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 import com.aol.cyclops.util.function.QuadFunction;
@@ -46,6 +59,29 @@ import reactor.core.publisher.Flux;
 @UtilityClass
 public class Fluxes {
 
+    private static volatile boolean blockingOperators = false;
+
+    /**
+     * Switch the materializing operators (reverse, shuffle, sorted, scanRight, sliding, grouped, removeAll, retainAll and
+     * groupedStatefullyUntil) between their Reactor native implementations (the default) and the original implementations
+     * which pull the source Flux through a blocking Iterator on first use.
+     * 
+     * The Reactor native implementations honour downstream demand, never block and run on whichever Scheduler the
+     * pipeline uses. The blocking implementations are retained to allow behaviour and performance to be compared.
+     * 
+     * <pre>
+     * {@code 
+     *    Fluxes.useBlockingOperators(true);
+     *    Flux<Integer> reversed = Fluxes.reverse(Flux.just(1,2,3)); //blocks on first use
+     * }
+     * </pre>
+     * 
+     * @param blocking true to use the original, blocking implementations
+     */
+    public static void useBlockingOperators(boolean blocking) {
+        blockingOperators = blocking;
+    }
+
     /**
      * Construct an AnyM type from a Flux. This allows the Flux to be manipulated according to a standard interface
      * along with a vast array of other Java Monad implementations
@@ -328,31 +364,8 @@ public class Fluxes {
     public final static <T, C extends Collection<? super T>> Flux<C> grouped(final Flux<T> stream, final int groupSize,
             final Supplier<C> factory) {
 
-        return Flux.fromIterable(() -> new Iterator<C>() {
-
-            Iterator<C> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(stream);
-                    it = seq.grouped(groupSize, factory)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public C next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return new GroupBySize<T, C>(
+                                     stream, factory).grouped(groupSize);
 
     }
 
@@ -759,34 +772,13 @@ public class Fluxes {
      * @return Reversed Flux
      */
     public static <T> Flux<T> reverse(Flux<T> flux) {
-
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    List<T> list = flux.collect(Collectors.toList())
-                                       .block();
-                    ReactiveSeq<T> seq = ReactiveSeq.fromList(list)
-                                                    .reverse();
-                    it = seq.iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        if (blockingOperators)
+            return BlockingFluxes.reverse(flux);
+        return flux.collectList()
+                   .flatMapIterable(list -> {
+                       Collections.reverse(list);
+                       return list;
+                   });
     }
 
     /**
@@ -796,34 +788,13 @@ public class Fluxes {
      * @return Shuffled flux
      */
     public static <T> Flux<T> shuffle(Flux<T> flux) {
-
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    List<T> list = flux.collect(Collectors.toList())
-                                       .block();
-                    Collections.shuffle(list);
-
-                    it = list.iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        if (blockingOperators)
+            return BlockingFluxes.shuffle(flux);
+        return flux.collectList()
+                   .flatMapIterable(list -> {
+                       Collections.shuffle(list);
+                       return list;
+                   });
     }
 
     /**
@@ -833,34 +804,13 @@ public class Fluxes {
      * @return Shuffled flux
      */
     public static <T> Flux<T> shuffle(Flux<T> flux, Random random) {
-
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    List<T> list = flux.collect(Collectors.toList())
-                                       .block();
-                    Collections.shuffle(list, random);
-
-                    it = list.iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        if (blockingOperators)
+            return BlockingFluxes.shuffle(flux, random);
+        return flux.collectList()
+                   .flatMapIterable(list -> {
+                       Collections.shuffle(list, random);
+                       return list;
+                   });
     }
 
     /**
@@ -870,32 +820,19 @@ public class Fluxes {
      * @return Sorted Flux
      */
     public static <T> Flux<T> sorted(Flux<T> flux) {
+        if (blockingOperators)
+            return BlockingFluxes.sorted(flux);
+        return new SortedFlux<T>(
+                                 flux, naturalOrder());
+    }
 
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.sorted()
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+    /**
+     * Natural order Comparator for values that are not known to be Comparable at compile time, as ReactiveSeq#sorted()
+     * sorts them (a ClassCastException is thrown on comparison otherwise)
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static <T> Comparator<T> naturalOrder() {
+        return (Comparator) Comparator.naturalOrder();
     }
 
     /**
@@ -1080,31 +1017,10 @@ public class Fluxes {
      * @return Sorted Flux
      */
     public static <T, U> Flux<T> sorted(Flux<T> flux, Function<? super T, ? extends U> function) {
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.sorted((Function) function)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        if (blockingOperators)
+            return BlockingFluxes.sorted(flux, function);
+        return new SortedFlux<T>(
+                                 flux, Comparator.comparing(function, Fluxes.<U> naturalOrder()));
     }
 
     /**
@@ -1116,32 +1032,75 @@ public class Fluxes {
      * @return Sorted Flux
      */
     public static <T> Flux<T> sorted(Flux<T> flux, Comparator<? super T> c) {
+        if (blockingOperators)
+            return BlockingFluxes.sorted(flux, c);
+        return new SortedFlux<T>(
+                                 flux, c);
+    }
 
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.sorted(c)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
+    /**
+     * Sort a Flux that may be too large to hold in memory, by spilling sorted runs to disk and lazily merging them
+     *
+     * <pre>
+     * {@code
+     *    ExternalSort<String> external = ExternalSort.of(1_000_000, ExternalSort.javaSerializer());
+     *    Fluxes.sorted(nightlyExport, Comparator.naturalOrder(), external);
+     * }
+     * </pre>
+     *
+     * @param flux Flux to sort
+     * @param c Comparator to sort Flux
+     * @param external Run size, serializer and temporary file location to use (also records spill metrics)
+     * @return Sorted Flux
+     */
+    public static <T> Flux<T> sorted(Flux<T> flux, Comparator<? super T> c, ExternalSort<T> external) {
+        return external.sort(flux, c);
+    }
 
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
+    /**
+     * Select the first k elements of a Flux according to the supplied Comparator, in sorted order.
+     * 
+     * Equivalent to sorting the Flux and taking the first k elements, but only a bounded heap of k elements is retained
+     * (O(k) memory and O(n log k) time rather than O(n) and O(n log n)).
+     * 
+     * <pre>
+     * {@code 
+     *    Fluxes.topK(Flux.just(5,1,4,2,6,3),3,Comparator.naturalOrder());
+     *    //Flux[1,2,3]
+     * }
+     * </pre>
+     * 
+     * @param flux Flux to select from
+     * @param k Number of elements to select
+     * @param c Comparator to order elements by
+     * @return Flux with the first k elements in sorted order
+     */
+    public static <T> Flux<T> topK(Flux<T> flux, long k, Comparator<? super T> c) {
+        return SortedFlux.topK(flux, k, c);
+    }
 
-        });
+    /**
+     * Limit a Flux to the supplied number of elements. If the Flux was created by one of the sorted operators in this class
+     * the sort and limit are fused into a bounded heap selection (see {@link Fluxes#topK(Flux, long, Comparator)}). If the
+     * Flux is a {@link FusedFlux} over a materialized collection the limit is added as a further fused stage.
+     * 
+     * <pre>
+     * {@code 
+     *    Fluxes.limit(Fluxes.sorted(Flux.just(5,1,4,2,6,3)),3);
+     *    //Flux[1,2,3] - without sorting the entire Flux
+     * }
+     * </pre>
+     * 
+     * @param flux Flux to limit
+     * @param num Max number of elements
+     * @return Limited Flux
+     */
+    public static <T> Flux<T> limit(Flux<T> flux, long num) {
+        if (flux instanceof SortedFlux)
+            return ((SortedFlux<T>) flux).limit(num);
+        if (flux instanceof FusedFlux)
+            return ((FusedFlux<T>) flux).fuseLimit(num);
+        return flux.take(num);
     }
 
     /**
@@ -1164,32 +1123,14 @@ public class Fluxes {
      */
     public static <T, U> Flux<U> scanRight(Flux<T> flux, U identity,
             BiFunction<? super T, ? super U, ? extends U> combiner) {
-
-        return Flux.fromIterable(() -> new Iterator<U>() {
-
-            Iterator<U> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.scanRight(identity, combiner)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public U next() {
-                init();
-                return it.next();
-            }
-
-        });
+        if (blockingOperators)
+            return BlockingFluxes.scanRight(flux, identity, combiner);
+        return flux.collectList()
+                   .flatMap(list -> {
+                       Collections.reverse(list);
+                       return Flux.fromIterable(list)
+                                  .scan(identity, (u, t) -> combiner.apply(t, u));
+                   });
     }
 
     /**
@@ -1198,32 +1139,9 @@ public class Fluxes {
      * @return
      */
     public static <T> Flux<T> scanRight(Flux<T> flux, Monoid<T> monoid) {
-
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.scanRight(monoid)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        if (blockingOperators)
+            return BlockingFluxes.scanRight(flux, monoid);
+        return scanRight(flux, monoid.zero(), monoid);
     }
 
     /**
@@ -1234,30 +1152,11 @@ public class Fluxes {
      * @return Flux with values in the supplied iterable removed
      */
     public static <T> Flux<T> removeAll(Flux<T> flux, Iterable<? extends T> iterable) {
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.removeAll(iterable)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
+        if (blockingOperators)
+            return BlockingFluxes.removeAll(flux, iterable);
+        return Flux.defer(() -> {
+            Set<? extends T> toRemove = SetX.fromIterable(iterable);
+            return flux.filter(t -> !toRemove.contains(t));
         });
     }
 
@@ -1269,30 +1168,11 @@ public class Fluxes {
      * @return Flux with only values in Iterable retained (if present in original Flux)
      */
     public static <T> Flux<T> retainAll(Flux<T> flux, Iterable<? extends T> iterable) {
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.retainAll(iterable)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
+        if (blockingOperators)
+            return BlockingFluxes.retainAll(flux, iterable);
+        return Flux.defer(() -> {
+            Set<? extends T> toRetain = SetX.fromIterable(iterable);
+            return flux.filter(toRetain::contains);
         });
     }
 
@@ -1353,30 +1233,29 @@ public class Fluxes {
      * @return Flux with sliding view
      */
     public static <T> Flux<ListX<T>> sliding(Flux<T> flux, int windowSize, int increment) {
-        return Flux.fromIterable(() -> new Iterator<ListX<T>>() {
-
-            Iterator<ListX<T>> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.sliding(windowSize, increment)
-                            .iterator();
+        if (blockingOperators)
+            return BlockingFluxes.sliding(flux, windowSize, increment);
+        return Flux.defer(() -> {
+            ArrayDeque<T> window = new ArrayDeque<>(
+                                                    windowSize);
+            AtomicBoolean emitted = new AtomicBoolean(
+                                                      false); //has the current window been emitted already
+            return flux.<ListX<T>> handle((next, sink) -> {
+                if (emitted.get()) {
+                    for (int i = 0; i < increment && !window.isEmpty(); i++)
+                        window.poll();
+                    emitted.set(false);
                 }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public ListX<T> next() {
-                init();
-                return it.next();
-            }
-
+                window.add(next);
+                if (window.size() >= windowSize) {
+                    emitted.set(true);
+                    sink.next(ListX.fromIterable(new ArrayList<>(
+                                                                 window)));
+                }
+            })
+                       .concatWith(Flux.defer(() -> emitted.get() || window.isEmpty() ? Flux.empty()
+                               : Flux.just(ListX.fromIterable(new ArrayList<>(
+                                                                              window)))));
         });
     }
 
@@ -1396,31 +1275,10 @@ public class Fluxes {
      * @return Grouped Flux
      */
     public static <T> Flux<ListX<T>> grouped(Flux<T> flux, int size) {
-        return Flux.fromIterable(() -> new Iterator<ListX<T>>() {
-
-            Iterator<ListX<T>> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.grouped(size)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public ListX<T> next() {
-                init();
-                return it.next();
-            }
-
-        });
+        if (blockingOperators)
+            return BlockingFluxes.grouped(flux, size);
+        return flux.buffer(size)
+                   .map(ListX::fromIterable);
     }
 
     /**
@@ -1532,8 +1390,7 @@ public class Fluxes {
     * @return Stream with elements removed
     */
     public static final <T> Flux<T> deleteBetween(final Flux<T> stream, final int start, final int end) {
-        return zipWithIndex(stream).filter(t -> t.v2 < start || t.v2 > (end - 1))
-                                   .map(t -> t.v1);
+        return filterIndexed(stream, (t, index) -> index < start || index > (end - 1));
 
     }
 
@@ -1555,14 +1412,78 @@ public class Fluxes {
      * @return Stream with new data inserted
      */
     public static final <T> Flux<T> insertAt(final Flux<T> stream, final int pos, final T... values) {
-        Flux<T> start = stream.take(pos);
-        Flux<T> end = zipWithIndex(stream).skipWhile(t -> t.v2 < pos)
-                                          .map(t -> t.v1);
-        return start.concatWith(Flux.just(values))
-                    .concatWith(end);
+        return new InsertAt<T>(
+                               stream, pos, values);
 
     }
 
+    /**
+     * Transform each element of a Flux with a function that also receives the element's (zero based) index. Unlike
+     * zipWithIndex no Tuple or boxed index is created per element.
+     * 
+     * <pre>
+     * {@code 
+     *    Fluxes.mapIndexed(Flux.just("a","b"),(s,index)->s+index);
+     *    
+     *    //Flux["a0","b1"]
+     * }
+     * </pre>
+     * 
+     * @param stream Flux to transform
+     * @param mapper Transformation function, accepting each element and its index
+     * @return Transformed Flux
+     */
+    public static <T, R> Flux<R> mapIndexed(final Flux<T> stream, final IndexedFunction<? super T, ? extends R> mapper) {
+        return new MapIndexed<T, R>(
+                                    stream, mapper);
+    }
+
+    /**
+     * Filter a Flux with a predicate that also receives each element's (zero based) index. Unlike zipWithIndex no Tuple
+     * or boxed index is created per element.
+     * 
+     * <pre>
+     * {@code 
+     *    Fluxes.filterIndexed(Flux.just("a","b","c","d"),(s,index)->index%2==0);
+     *    
+     *    //Flux["a","c"]
+     * }
+     * </pre>
+     * 
+     * @param stream Flux to filter
+     * @param predicate Predicate accepting each element and its index
+     * @return Filtered Flux
+     */
+    public static <T> Flux<T> filterIndexed(final Flux<T> stream, final IndexedPredicate<? super T> predicate) {
+        return new FilterIndexed<T>(
+                                    stream, predicate);
+    }
+
+    /**
+     * Select the elements of a Flux with an index from start (inclusive) to end (exclusive). The source Flux is
+     * cancelled once the end index is reached.
+     * 
+     * <pre>
+     * {@code 
+     *    Fluxes.sliceByIndex(Flux.just(1,2,3,4,5,6),2,4);
+     *    
+     *    //Flux[3,4]
+     * }
+     * </pre>
+     * 
+     * @param stream Flux to slice
+     * @param start index (inclusive)
+     * @param end index (exclusive)
+     * @return Flux with the elements between start and end
+     */
+    public static <T> Flux<T> sliceByIndex(final Flux<T> stream, final long start, final long end) {
+        if (start < 0 || end < start)
+            throw new IllegalArgumentException(
+                                               "Slice indexes must satisfy 0 <= start <= end");
+        return stream.skip(start)
+                     .take(end - start);
+    }
+
     /**
      * Create Flux of ListX where
      * each ListX is populated while the supplied bipredicate holds. The
@@ -1583,31 +1504,24 @@ public class Fluxes {
      */
     public final static <T> Flux<ListX<T>> groupedStatefullyUntil(final Flux<T> flux,
             final BiPredicate<ListX<? super T>, ? super T> predicate) {
-
-        return Flux.fromIterable(() -> new Iterator<ListX<T>>() {
-
-            Iterator<ListX<T>> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.groupedStatefullyUntil(predicate)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public ListX<T> next() {
-                init();
-                return it.next();
-            }
-
+        if (blockingOperators)
+            return BlockingFluxes.groupedStatefullyUntil(flux, predicate);
+        return Flux.defer(() -> {
+            AtomicReference<ListX<T>> last = new AtomicReference<>(
+                                                                   ListX.empty());
+            AtomicReference<ListX<T>> current = new AtomicReference<>(
+                                                                      null);
+            return flux.<ListX<T>> handle((next, sink) -> {
+                ListX<T> group = current.get() == null ? ListX.of() : current.get();
+                group.add(next);
+                if (!predicate.test(last.get(), next)) {
+                    last.set(group);
+                    current.set(null);
+                    sink.next(group);
+                } else
+                    current.set(group);
+            })
+                       .concatWith(Flux.defer(() -> current.get() == null ? Flux.empty() : Flux.just(current.get())));
         });
 
     }
@@ -1,14 +1,21 @@
 package com.aol.cyclops.reactor;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
 import org.reactivestreams.Publisher;
 
 import com.aol.cyclops.control.AnyM;
 import com.aol.cyclops.control.For;
 import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.types.Value;
 import com.aol.cyclops.types.anyM.AnyMValue;
 import com.aol.cyclops.types.stream.reactive.ValueSubscriber;
@@ -364,6 +371,76 @@ public class Monos {
         return Mono.from(Flux.fromIterable(t));
     }
 
+    /**
+     * Subscribe to the provided Monos, with at most maxConcurrency of them in flight at any one time, and collect their
+     * values (in the order the Monos were provided) into a single Mono. Empty Monos contribute no value.
+     * 
+     * <pre>
+     * {@code 
+     *    Mono<ListX<Response>> responses = Monos.sequence(requests.map(this::callRemote),32);
+     * }
+     * </pre>
+     * 
+     * @param monos Monos to sequence
+     * @param maxConcurrency Max number of Monos subscribed to concurrently
+     * @return Mono containing the values of the provided Monos
+     */
+    public static <T> Mono<ListX<T>> sequence(Iterable<? extends Mono<? extends T>> monos, int maxConcurrency) {
+        return sequence(monos, maxConcurrency, nanos -> {
+        });
+    }
+
+    /**
+     * Subscribe to the provided Monos, with at most maxConcurrency of them in flight at any one time, and collect their
+     * values (in the order the Monos were provided) into a single Mono. Empty Monos contribute no value.
+     * 
+     * The time taken to complete each successive batch of maxConcurrency Monos (and any final partial batch) is
+     * reported in nanoseconds to the supplied batchLatency consumer.
+     * 
+     * @param monos Monos to sequence
+     * @param maxConcurrency Max number of Monos subscribed to concurrently
+     * @param batchLatency Consumer notified with the elapsed nanoseconds for each batch
+     * @return Mono containing the values of the provided Monos
+     */
+    public static <T> Mono<ListX<T>> sequence(Iterable<? extends Mono<? extends T>> monos, int maxConcurrency,
+            LongConsumer batchLatency) {
+        if (maxConcurrency < 1)
+            throw new IllegalArgumentException(
+                                               "maxConcurrency must be 1 or more");
+        Objects.requireNonNull(batchLatency);
+        return Mono.defer(() -> {
+            final List<Mono<? extends T>> list = new ArrayList<>();
+            monos.forEach(list::add);
+            final long[] batch = { System.nanoTime(), 0 };
+            final Runnable report = () -> {
+                final long now = System.nanoTime();
+                batchLatency.accept(now - batch[0]);
+                batch[0] = now;
+            };
+            return Flux.range(0, list.size())
+                       .flatMap(i -> list.get(i)
+                                         .map(v -> Tuple.<Integer, T> tuple(i, v)),
+                                maxConcurrency)
+                       .doOnNext(t -> {
+                           if (++batch[1] % maxConcurrency == 0)
+                               report.run();
+                       })
+                       .doOnComplete(() -> {
+                           if (batch[1] % maxConcurrency != 0)
+                               report.run();
+                       })
+                       .collectList()
+                       .map(indexed -> {
+                           indexed.sort((a, b) -> a.v1.compareTo(b.v1));
+                           final List<T> result = new ArrayList<>(
+                                                                  indexed.size());
+                           for (final Tuple2<Integer, T> next : indexed)
+                               result.add(next.v2);
+                           return ListX.fromIterable(result);
+                       });
+        });
+    }
+
     /**
      * Get an Iterator for the value (if any) in the provided Mono
      * 
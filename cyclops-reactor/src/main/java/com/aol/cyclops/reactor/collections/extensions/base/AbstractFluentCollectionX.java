@@ -4,11 +4,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
@@ -17,6 +17,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.Seq;
@@ -36,14 +37,16 @@ import com.aol.cyclops.data.collections.extensions.CollectionX;
 import com.aol.cyclops.data.collections.extensions.FluentCollectionX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.reactor.Fluxes;
+import com.aol.cyclops.reactor.operators.FusedFlux;
 import com.aol.cyclops.reactor.types.ReactorConvertable;
 import com.aol.cyclops.types.IterableFunctor;
 import com.aol.cyclops.types.Zippable;
-import com.aol.cyclops.util.ExceptionSoftener;
 
 import lombok.AllArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Abstract Class representing a Fluent, Lazy, extended Collection
@@ -60,8 +63,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
         private volatile C list;
         private final AtomicReference<Flux<T>> seq;
         private final Collector<T, ?, C> collector;
-        AtomicBoolean updating = new AtomicBoolean(false);
-        AtomicReference<Throwable> error = new AtomicReference<>(null);
+        private final Materializer<C> materializer = new Materializer<>();
         
         public LazyCollection(C list, Flux<T> seq, Collector<T, ?, C> collector) {
             this.list = list;
@@ -72,41 +74,48 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
         @Override
         public C get() {
             if (seq.get() != null) {
-                if(updating.compareAndSet(false, true)) { //check if can materialize
-                    try{
-                        Flux<T> toUse = seq.get();
-                        if(toUse!=null){//dbl check - as we may pass null check on on thread and set updating false on another
-                           list = toUse.collect(collector)
-                                       .block();
-                           seq.set(null);
-                        }
-                    }catch(Throwable t){
-                        error.set(t); //catch any errors for propagation on access
-                       
-                    }finally{
-                        updating.set(false); //finished updating
-                    }
-                }
-                while(updating.get()){ //Check if another thread updating
-                    LockSupport.parkNanos(0l); //spin until updating thread completes
-                }
-                if(error.get()!=null) //if updating thread failed, throw error
-                    throw ExceptionSoftener.throwSoftenedException(error.get());
-                
-                return list;
+                //only one thread materializes, others park until it completes (errors are propagated on access)
+                Flux<T> toUse = seq.get();
+                return materializer.get(this, toUse, () -> {
+                    //stages over an already materialized collection run as a single loop
+                    return materialized(toUse instanceof FusedFlux ? ((FusedFlux<T>) toUse).collectFused(collector)
+                            : toUse.collect(collector)
+                                   .block());
+                });
             }
 
             return list;
 
         }
 
+        @Override
+        public Mono<C> getAsync(Scheduler scheduler) {
+            return Mono.defer(() -> {
+                if (seq.get() == null)
+                    return Mono.just(list);
+                Flux<T> toUse = seq.get();
+                return Mono.fromFuture(materializer.getAsync(this, toUse, () -> {
+                    Mono<C> res = toUse instanceof FusedFlux ? ((FusedFlux<T>) toUse).collectFusedAsync(collector)
+                            : toUse.collect(collector);
+                    return (scheduler == null ? res : res.subscribeOn(scheduler)).toFuture()
+                                                                                 .thenApply(this::materialized);
+                }));
+            });
+        }
+
+        private C materialized(C res) {
+            list = res;
+            seq.set(null);
+            return res;
+        }
+
         @Override
         public Flux<T> flux() {
             Flux<T> toUse = seq.get();
             if (toUse != null) {
                 return toUse;
             }
-            return Flux.fromIterable(list);
+            return FusedFlux.of(list);
         }
     }
 
@@ -115,8 +124,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
         private volatile C list;
         private final AtomicReference<Flux<T>> seq;
         private final Reducer<C> reducer;
-        private final AtomicBoolean updating = new AtomicBoolean(false);
-        private final AtomicReference<Throwable> error = new AtomicReference<>(null);
+        private final Materializer<C> materializer = new Materializer<>();
         
         
         
@@ -130,30 +138,13 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
         @Override
         public C get() {
             if (seq.get() != null) { //need to materialize
-                
-                if(updating.compareAndSet(false, true)) { //check if can materialize
-                    try{
-                        Flux<T> toUse = seq.get();
-                        if(toUse!=null){//dbl check - as we may pass null check on on thread and set updating false on another
-                           list = reducer.mapReduce(toUse.toStream());
-                           seq.set(null);
-                        }
-                    }catch(Throwable t){
-                        error.set(t); //catch any errors for propagation on access
-                       
-                    }finally{
-                        updating.set(false); //finished updating
-                    }
-                }
-                
-                while(updating.get()){ //Check if another thread updating
-                   
-                    LockSupport.parkNanos(0l); //spin until updating thread completes
-                }
-                if(error.get()!=null) //if updating thread failed, throw error
-                    throw ExceptionSoftener.throwSoftenedException(error.get());
-               
-                return list;
+                //only one thread materializes, others park until it completes (errors are propagated on access)
+                Flux<T> toUse = seq.get();
+                return materializer.get(this, toUse, () -> {
+                    return materialized(reducer.mapReduce(toUse instanceof FusedFlux ? ((FusedFlux<T>) toUse).collectFused(Collectors.toList())
+                                                                                                            .stream()
+                            : toUse.toStream()));
+                });
             }
 
             return list;
@@ -161,6 +152,27 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
 
         }
 
+        @Override
+        public Mono<C> getAsync(Scheduler scheduler) {
+            return Mono.defer(() -> {
+                if (seq.get() == null)
+                    return Mono.just(list);
+                Flux<T> toUse = seq.get();
+                return Mono.fromFuture(materializer.getAsync(this, toUse, () -> {
+                    Mono<List<T>> res = toUse instanceof FusedFlux ? ((FusedFlux<T>) toUse).collectFusedAsync(Collectors.toList())
+                            : toUse.collectList();
+                    return (scheduler == null ? res : res.subscribeOn(scheduler)).toFuture()
+                                                                                 .thenApply(l -> materialized(reducer.mapReduce(l.stream())));
+                }));
+            });
+        }
+
+        private C materialized(C res) {
+            list = res;
+            seq.set(null);
+            return res;
+        }
+
         /*
          * (non-Javadoc)
          * 
@@ -173,7 +185,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
             if (toUse != null) {
                 return toUse;
             }
-            return Flux.fromIterable(list);
+            return FusedFlux.of(list);
         }
     }
 
@@ -331,7 +343,10 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
      */
     @Override
     public FluentCollectionX<T> filter(final Predicate<? super T> pred) {
-        return stream(flux().filter(pred));
+        final Flux<T> flux = flux();
+        if (flux instanceof FusedFlux)
+            return stream(((FusedFlux<T>) flux).fuseFilter(pred));
+        return stream(flux.filter(pred));
     }
 
     /*
@@ -343,7 +358,10 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
      */
     @Override
     public <R> CollectionX<R> map(final Function<? super T, ? extends R> mapper) {
-        return stream(flux().map(mapper));
+        final Flux<T> flux = flux();
+        if (flux instanceof FusedFlux)
+            return stream(((FusedFlux<T>) flux).fuseMap(mapper));
+        return stream(flux.map(mapper));
     }
 
     /*
@@ -365,7 +383,134 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
      */
     @Override
     public FluentCollectionX<T> limit(final long num) {
-        return stream(flux().take(num));
+        return stream(Fluxes.limit(flux(), num));
+    }
+
+    /**
+     * Lazily select the first k elements of this collection according to the supplied Comparator, in sorted order.
+     * 
+     * Equivalent to sorted(c).limit(k) (which is also fused into this operation), but only a bounded heap of k elements is
+     * retained while the collection is materialized.
+     * 
+     * <pre>
+     * {@code 
+     *    LazyListX.of(5,1,4,2,6,3)
+     *             .topK(3,Comparator.naturalOrder());
+     *    //LazyListX[1,2,3]
+     * }
+     * </pre>
+     * 
+     * @param k Number of elements to select
+     * @param c Comparator to order elements by
+     * @return Collection with the first k elements in sorted order
+     */
+    public FluentCollectionX<T> topK(final long k, final Comparator<? super T> c) {
+        return stream(Fluxes.topK(flux(), k, c));
+    }
+
+    /**
+     * Materialize this collection in parallel. The source is materialized, split into chunks and the map and filter
+     * stages added after this call are run over each chunk on ParallelFlux rails. The results are combined in encounter
+     * order using the collection's Collector (or Reducer), so list types retain their ordering.
+     * 
+     * <pre>
+     * {@code 
+     *    LazyListX.range(0,10_000_000)
+     *             .parallel(32)
+     *             .map(this::expensive)
+     *             .filter(this::wanted);
+     *    //LazyListX - materialized on 32 rails when first accessed
+     * }
+     * </pre>
+     * 
+     * A subsequent limit is run sequentially. Materialization blocks the accessing thread until the rails complete,
+     * so the collection should not be accessed from a thread of the Scheduler it runs on.
+     * 
+     * @param parallelism Number of rails to run on (on the {@link Schedulers#parallel()} Scheduler)
+     * @return Collection that materializes in parallel
+     */
+    public FluentCollectionX<T> parallel(final int parallelism) {
+        return stream(FusedFlux.parallel(flux(), parallelism, Schedulers.parallel()));
+    }
+
+    /**
+     * Materialize this collection in parallel on the supplied Scheduler, with a rail per available processor
+     * 
+     * @see AbstractFluentCollectionX#parallel(int)
+     * @param scheduler Scheduler to run the rails on
+     * @return Collection that materializes in parallel
+     */
+    public FluentCollectionX<T> parallel(final Scheduler scheduler) {
+        return stream(FusedFlux.parallel(flux(), Runtime.getRuntime()
+                                                        .availableProcessors(),
+                                         scheduler));
+    }
+
+    /**
+     * Share the materialization of this collection between all collections derived from the result. Rather than each
+     * derived collection re-running the queued operations of this collection, the first derived collection to be
+     * accessed materializes this collection (once) and the rest reuse the materialized result.
+     * 
+     * <pre>
+     * {@code 
+     *    LazyListX<Data> base = LazyListX.fromPublisher(source)
+     *                                    .map(this::decode)
+     *                                    .share();
+     *    LazyListX<Data> valid = base.filter(this::isValid);
+     *    LazyListX<Id> ids = base.map(Data::getId);
+     *    LazyListX<ListX<Data>> batches = base.grouped(10);
+     *    //source is subscribed to and decode run once, however many of the above are accessed
+     * }
+     * </pre>
+     * 
+     * Sharing is opt-in rather than switched on automatically when a second collection is derived. Derived collections
+     * capture the Flux of this collection directly (which keeps consecutive operations fused), so sharing by default
+     * would defer and buffer every derived collection, including the common single child case.
+     * 
+     * Reuse is reported via {@link Materializer#reuseCount()}.
+     * 
+     * @return Collection whose derived collections share a single materialization of this collection
+     */
+    public FluentCollectionX<T> share() {
+        final AtomicBoolean subscribed = new AtomicBoolean(
+                                                           false);
+        return stream(Flux.defer(() -> {
+            if (!subscribed.compareAndSet(false, true))
+                Materializer.reused();
+            return materializeAsync().flatMap(materialized -> flux()); //non-blocking, the first subscriber triggers materialization
+        }));
+    }
+
+    /**
+     * Multicast the queued operations of this collection to all collections derived from the result. The underlying
+     * Flux is subscribed to once, its elements are cached and replayed to each derived collection as they arrive,
+     * without first materializing this collection.
+     * 
+     * <pre>
+     * {@code 
+     *    LazyListX<Data> base = LazyListX.fromPublisher(source)
+     *                                    .map(this::decode)
+     *                                    .cache();
+     *    base.filter(this::isValid).materializeAsync();
+     *    base.map(Data::getId).materializeAsync();
+     *    //source is subscribed to and decode run once
+     * }
+     * </pre>
+     * 
+     * The cached elements are retained for as long as the result (or a Collection derived from it but not yet
+     * materialized) is reachable. Reuse is reported via {@link Materializer#reuseCount()}.
+     * 
+     * @return Collection whose derived collections share a single subscription to the underlying Flux
+     */
+    public FluentCollectionX<T> cache() {
+        final Flux<T> cached = flux().cache();
+        final AtomicBoolean subscribed = new AtomicBoolean(
+                                                           false);
+        return stream(Flux.defer(() -> {
+            if (!subscribed.compareAndSet(false, true))
+                Materializer.reused();
+            return cached;
+        }));
     }
 
     /*
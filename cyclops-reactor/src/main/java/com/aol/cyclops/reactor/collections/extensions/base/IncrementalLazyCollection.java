@@ -0,0 +1,239 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collector;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.reactor.operators.FusedFlux;
+import com.aol.cyclops.util.ExceptionSoftener;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * A lazy List that materializes incrementally. Index based access pulls from the backing Flux only as far as the
+ * highest index requested, caching that prefix and keeping the subscription open for further pulls. The Flux is
+ * subscribed to once, full materialization (e.g. via {@link #get()} or size()) continues from the cached prefix.
+ *
+ * <pre>
+ * {@code
+ *    LazyListX<Result> results = LazyListX.fromPublisher(query)
+ *                                         .map(this::decode)
+ *                                         .incremental();
+ *    results.subList(0,20);   //pulls and decodes 20 results only
+ *    results.subList(20,40);  //pulls and decodes the next 20
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> the type of elements held in this collection
+ * @param <C> the fully materialized List type
+ */
+public class IncrementalLazyCollection<T, C extends List<T>> implements LazyFluentCollection<T, C> {
+
+    private final Flux<T> source;
+    private final Collector<T, ?, C> collector;
+
+    private final List<T> prefix = new ArrayList<>();
+    private Subscription subscription;
+    private boolean started;
+    private boolean done;
+    private Throwable error;
+    private long outstanding;
+    private volatile C list;
+
+    public IncrementalLazyCollection(Flux<T> source, Collector<T, ?, C> collector) {
+        this.source = source;
+        this.collector = collector;
+    }
+
+    /**
+     * @param index Index of element to return
+     * @return Element at index, pulling from the backing Flux only as far as index
+     */
+    public T get(int index) {
+        final C materialized = list;
+        if (materialized != null)
+            return materialized.get(index);
+        synchronized (this) {
+            if (index < 0 || !ensure(index + 1l))
+                throw new IndexOutOfBoundsException(
+                                                    "Index: " + index + ", Size: " + prefix.size());
+            return prefix.get(index);
+        }
+    }
+
+    /**
+     * @return true if the backing Flux is empty (pulling at most one element)
+     */
+    public boolean isEmpty() {
+        final C materialized = list;
+        if (materialized != null)
+            return materialized.isEmpty();
+        synchronized (this) {
+            return !ensure(1);
+        }
+    }
+
+    /**
+     * @param fromIndex Start index (inclusive)
+     * @param toIndex End index (exclusive)
+     * @return Copy of the elements between fromIndex and toIndex, pulling only as far as toIndex
+     */
+    public List<T> subList(int fromIndex, int toIndex) {
+        final C materialized = list;
+        if (materialized != null)
+            return materialized.subList(fromIndex, toIndex);
+        synchronized (this) {
+            if (fromIndex < 0 || fromIndex > toIndex || !ensure(toIndex))
+                throw new IndexOutOfBoundsException(
+                                                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + prefix.size());
+            return new ArrayList<>(
+                                   prefix.subList(fromIndex, toIndex));
+        }
+    }
+
+    /**
+     * @return Iterator that pulls from the backing Flux as it is advanced
+     */
+    public Iterator<T> iterator() {
+        final C materialized = list;
+        if (materialized != null)
+            return materialized.iterator();
+        return new Iterator<T>() {
+            int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                synchronized (IncrementalLazyCollection.this) {
+                    if (list != null) //fully materialized since this Iterator was created
+                        return index < list.size();
+                    return ensure(index + 1l);
+                }
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                synchronized (IncrementalLazyCollection.this) {
+                    return list != null ? list.get(index++) : prefix.get(index++);
+                }
+            }
+        };
+    }
+
+    @Override
+    public C get() {
+        C materialized = list;
+        if (materialized != null)
+            return materialized;
+        synchronized (this) {
+            if (list == null) {
+                ensure(Long.MAX_VALUE);
+                list = prefix.stream()
+                             .collect(collector);
+                prefix.clear();
+            }
+            return list;
+        }
+    }
+
+    @Override
+    public Flux<T> flux() {
+        final C materialized = list;
+        if (materialized != null)
+            return FusedFlux.of(materialized);
+        synchronized (this) {
+            if (!started)
+                return source;
+        }
+        return Flux.fromIterable(this::iterator); //replay the cached prefix then continue pulling
+    }
+
+    @Override
+    public Mono<C> getAsync(Scheduler scheduler) {
+        //pulls block, so run them off the subscribing thread
+        return Mono.fromCallable(this::get)
+                   .subscribeOn(scheduler == null ? Schedulers.elastic() : scheduler);
+    }
+
+    /**
+     * Pull from the backing Flux until at least size elements are cached or it completes. Must hold the lock.
+     *
+     * @return true if at least size elements are available
+     */
+    private boolean ensure(long size) {
+        if (!started) {
+            started = true;
+            source.subscribe(new PrefixSubscriber());
+        }
+        try {
+            while (prefix.size() < size && !done) {
+                if (subscription != null) {
+                    final long needed = size - prefix.size() - outstanding;
+                    if (needed > 0) {
+                        outstanding += needed;
+                        subscription.request(needed);
+                        continue;
+                    }
+                }
+                wait();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+        if (prefix.size() >= size)
+            return true;
+        if (error != null)
+            throw ExceptionSoftener.throwSoftenedException(error);
+        return false;
+    }
+
+    private class PrefixSubscriber implements Subscriber<T> {
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            synchronized (IncrementalLazyCollection.this) {
+                subscription = s;
+                IncrementalLazyCollection.this.notifyAll();
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            synchronized (IncrementalLazyCollection.this) {
+                prefix.add(t);
+                outstanding--;
+                IncrementalLazyCollection.this.notifyAll();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            synchronized (IncrementalLazyCollection.this) {
+                error = t;
+                done = true;
+                IncrementalLazyCollection.this.notifyAll();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (IncrementalLazyCollection.this) {
+                done = true;
+                IncrementalLazyCollection.this.notifyAll();
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.aol.cyclops.reactor.collections.extensions.base;
 import java.util.Collection;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * Interface for a wrapper around a Fluent, Lazy Collection
@@ -23,4 +25,13 @@ public interface LazyFluentCollection<T, C extends Collection<T>> {
      * @return Collection data inside a stream - a Reactor Flux
      */
     Flux<T> flux();
+
+    /**
+     * Materialize the wrapped Collection without blocking. Materialization starts when the returned Mono is subscribed
+     * to, once complete subsequent calls to {@link #get()} return the cached Collection.
+     * 
+     * @param scheduler Scheduler to materialize on, or null to materialize on the subscribing thread
+     * @return Mono that completes with the wrapped Collection
+     */
+    Mono<C> getAsync(Scheduler scheduler);
 }
\ No newline at end of file
@@ -2,12 +2,15 @@ package com.aol.cyclops.reactor.collections.extensions.base;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 import com.aol.cyclops.data.collections.extensions.FluentCollectionX;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * A Lazy Collection with a fluent api. Extended operators act eagerly, direct operations on a collection
@@ -42,6 +45,41 @@ public interface LazyFluentCollectionX<T> extends FluentCollectionX<T> {
      * @return This collection with any queued Lazy Operations materialized
      */
     LazyFluentCollectionX<T> materialize();
+
+    /**
+     * Materialize this collection without blocking the calling thread (e.g. to prepare a collection off an event loop).
+     * Materialization starts when the returned Mono is subscribed to, once it completes the collection is cached and
+     * access via the standard Collection methods no longer blocks.
+     * 
+     * <pre>
+     * {@code 
+     *    LazyListX.range(0,1_000_000)
+     *             .map(this::expensive)
+     *             .materializeAsync()
+     *             .subscribe(list -> handler.accept(list)); //list is already materialized
+     * }
+     * </pre>
+     * 
+     * @return Mono that completes with this collection once any queued Lazy Operations are materialized
+     */
+    Mono<? extends LazyFluentCollectionX<T>> materializeAsync();
+
+    /**
+     * Materialize this collection on the supplied Scheduler
+     * 
+     * @see LazyFluentCollectionX#materializeAsync()
+     * @param scheduler Scheduler to materialize on
+     * @return Mono that completes with this collection once any queued Lazy Operations are materialized
+     */
+    Mono<? extends LazyFluentCollectionX<T>> materializeOn(Scheduler scheduler);
+
+    /**
+     * Start materializing this collection without blocking the calling thread
+     * 
+     * @see LazyFluentCollectionX#materializeAsync()
+     * @return CompletableFuture that completes with this collection once any queued Lazy Operations are materialized
+     */
+    CompletableFuture<? extends LazyFluentCollectionX<T>> materializeFuture();
     /**
      * Create a LazyFluentCollection from a Flux. 
      * The created LazyFluentCollection will be of the same type as the object this method is called on.
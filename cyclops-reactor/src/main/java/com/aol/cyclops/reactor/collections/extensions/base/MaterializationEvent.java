@@ -0,0 +1,104 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.aol.cyclops.reactor.operators.FusedFlux;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import reactor.core.Receiver;
+
+/**
+ * Describes the materialization of a lazy collection, passed to a {@link MaterializationListener}
+ *
+ * @author johnmcclean
+ *
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MaterializationEvent {
+
+    /**
+     * The lazy collection being materialized
+     */
+    private final Object collection;
+    /**
+     * Operators (from the source outwards) that are run by this materialization
+     */
+    private final List<String> operators;
+    /**
+     * Thread materialization was started on
+     */
+    private final Thread thread;
+    /**
+     * true if started via a non-blocking materialization (e.g. materializeAsync())
+     */
+    private final boolean async;
+    /**
+     * System.nanoTime() when materialization started
+     */
+    private final long startNanos;
+    /**
+     * Time taken to materialize, or -1 if not yet complete
+     */
+    private final long elapsedNanos;
+    /**
+     * Number of elements in the materialized collection, or -1 if not yet complete (or failed)
+     */
+    private final int size;
+    /**
+     * Type of the materialized collection, or null if not yet complete (or failed)
+     */
+    private final Class<?> resultType;
+    private final Throwable error;
+
+    static MaterializationEvent start(Object collection, Object source, boolean async) {
+        return new MaterializationEvent(
+                                        collection, operators(source), Thread.currentThread(), async, System.nanoTime(), -1l, -1,
+                                        null, null);
+    }
+
+    MaterializationEvent complete(Object result, Throwable error) {
+        return new MaterializationEvent(
+                                        collection, operators, thread, async, startNanos, System.nanoTime() - startNanos,
+                                        result instanceof Collection ? ((Collection<?>) result).size() : -1,
+                                        result == null ? null : result.getClass(), error);
+    }
+
+    /**
+     * @return Error materialization failed with, if any
+     */
+    public Optional<Throwable> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * @return true if materialization failed
+     */
+    public boolean isFailed() {
+        return error != null;
+    }
+
+    private static List<String> operators(Object source) {
+        final List<String> chain = new ArrayList<>();
+        Object next = source;
+        while (next != null && chain.size() < 256) {
+            chain.add(next instanceof FusedFlux ? "FusedFlux" : next.getClass()
+                                                                     .getSimpleName());
+            next = next instanceof Receiver ? ((Receiver) next).upstream() : null;
+        }
+        Collections.reverse(chain);
+        return Collections.unmodifiableList(chain);
+    }
+
+    @Override
+    public String toString() {
+        return "MaterializationEvent[operators=" + operators + ", thread=" + thread.getName() + ", async=" + async
+                + ", elapsedNanos=" + elapsedNanos + ", size=" + size + ", error=" + error + "]";
+    }
+}
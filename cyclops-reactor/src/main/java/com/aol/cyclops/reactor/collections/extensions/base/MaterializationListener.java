@@ -0,0 +1,43 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+/**
+ * Listener notified whenever a lazy collection materializes its queued operations.
+ *
+ * Register via {@link Materializer#setListener(MaterializationListener)}. When no listener is registered (the default)
+ * materialization is not instrumented at all.
+ *
+ * <pre>
+ * {@code
+ *    MaterializationStats stats = new MaterializationStats();
+ *    Materializer.setListener(stats);
+ *
+ *    LazyListX.range(0,1000).map(i->i*2).size();
+ *
+ *    stats.completed(); //1
+ *    stats.percentileNanos(0.99);
+ * }
+ * </pre>
+ *
+ * Listener methods are called on the materializing thread and should return quickly.
+ *
+ * @author johnmcclean
+ *
+ */
+public interface MaterializationListener {
+
+    /**
+     * Called before materialization starts
+     *
+     * @param event Details of the materializing collection (elapsed time and size are not yet known)
+     */
+    default void onStart(MaterializationEvent event) {
+
+    }
+
+    /**
+     * Called after materialization completes successfully or with an error
+     *
+     * @param event Details of the completed materialization
+     */
+    void onComplete(MaterializationEvent event);
+}
@@ -0,0 +1,180 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link MaterializationListener} that records counters and a latency histogram for lazy collection
+ * materialization. Recording is lock free (LongAdder based) and allocation free, other than on the first
+ * materialization of each collection type.
+ *
+ * Latencies are bucketed by powers of two nanoseconds, so percentiles are accurate to within a factor of two.
+ *
+ * <pre>
+ * {@code
+ *    MaterializationStats stats = new MaterializationStats();
+ *    Materializer.setListener(stats);
+ *    ...
+ *    stats.countsByType(); // {ListXImpl=1200, PSetXImpl=3}
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class MaterializationStats implements MaterializationListener {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder async = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder[] histogram = new LongAdder[BUCKETS];
+    private final ConcurrentHashMap<String, LongAdder> byType = new ConcurrentHashMap<>();
+
+    public MaterializationStats() {
+        for (int i = 0; i < BUCKETS; i++)
+            histogram[i] = new LongAdder();
+    }
+
+    @Override
+    public void onStart(MaterializationEvent event) {
+        started.increment();
+    }
+
+    @Override
+    public void onComplete(MaterializationEvent event) {
+        if (event.isFailed())
+            failed.increment();
+        else
+            completed.increment();
+        if (event.isAsync())
+            async.increment();
+        if (event.getSize() > 0)
+            elements.add(event.getSize());
+        final long nanos = event.getElapsedNanos();
+        totalNanos.add(nanos);
+        histogram[bucket(nanos)].increment();
+        if (event.getResultType() != null)
+            byType.computeIfAbsent(event.getResultType()
+                                        .getSimpleName(),
+                                   k -> new LongAdder())
+                  .increment();
+    }
+
+    private static int bucket(long nanos) {
+        return nanos <= 0 ? 0 : BUCKETS - Long.numberOfLeadingZeros(nanos) - 1;
+    }
+
+    /**
+     * @return Number of materializations started
+     */
+    public long started() {
+        return started.sum();
+    }
+
+    /**
+     * @return Number of materializations completed successfully
+     */
+    public long completed() {
+        return completed.sum();
+    }
+
+    /**
+     * @return Number of materializations that failed
+     */
+    public long failed() {
+        return failed.sum();
+    }
+
+    /**
+     * @return Number of materializations started via the non-blocking API
+     */
+    public long async() {
+        return async.sum();
+    }
+
+    /**
+     * @return Total number of elements materialized
+     */
+    public long elements() {
+        return elements.sum();
+    }
+
+    /**
+     * @return Total time spent materializing, in nanoseconds
+     */
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * @return Number of successful materializations per materialized collection type
+     */
+    public Map<String, Long> countsByType() {
+        final Map<String, Long> res = new TreeMap<>();
+        byType.forEach((k, v) -> res.put(k, v.sum()));
+        return res;
+    }
+
+    /**
+     * @return Latency histogram, index i holds the count of materializations that took between 2^i and 2^(i+1)
+     *         nanoseconds
+     */
+    public long[] histogram() {
+        final long[] res = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++)
+            res[i] = histogram[i].sum();
+        return res;
+    }
+
+    /**
+     * @param percentile Percentile to report (between 0 and 1)
+     * @return Upper bound of the histogram bucket containing the percentile, in nanoseconds (0 if nothing recorded)
+     */
+    public long percentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 1)
+            throw new IllegalArgumentException(
+                                               "Percentile must be between 0 and 1");
+        final long[] counts = histogram();
+        long total = 0;
+        for (final long next : counts)
+            total += next;
+        if (total == 0)
+            return 0;
+        final long target = Math.max(1, (long) Math.ceil(total * percentile));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target)
+                return i == BUCKETS - 1 ? Long.MAX_VALUE : (1l << (i + 1)) - 1;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Reset all counters
+     */
+    public void reset() {
+        started.reset();
+        completed.reset();
+        failed.reset();
+        async.reset();
+        elements.reset();
+        totalNanos.reset();
+        for (final LongAdder next : histogram)
+            next.reset();
+        byType.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "MaterializationStats[started=" + started() + ", completed=" + completed() + ", failed=" + failed()
+                + ", elements=" + elements() + ", totalNanos=" + totalNanos() + ", p99Nanos=" + percentileNanos(0.99) + "]";
+    }
+}
@@ -0,0 +1,266 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+
+/**
+ * Coordinates the one-off materialization of a lazy collection across threads.
+ *
+ * The first thread to request the collection runs the materialization, any other threads that arrive while it
+ * is in progress park (rather than spin) until they are woken on completion and are handed the materialized result
+ * or the failure.
+ *
+ * <pre>
+ * {@code
+ *     //fail waiting threads if a materialization takes longer than 5 seconds
+ *     Materializer.setWaitTimeout(5, TimeUnit.SECONDS);
+ *
+ *     //contention on shared lazy collections
+ *     long waits = Materializer.waitCount();
+ *     long waitNanos = Materializer.waitNanos();
+ *
+ *     //report every materialization
+ *     Materializer.setListener(new MaterializationStats());
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <C> Type of the materialized collection
+ */
+public class Materializer<C> {
+
+    private static volatile long waitTimeoutNanos = -1l;
+    private static volatile MaterializationListener listener;
+    private static final LongAdder waitCount = new LongAdder();
+    private static final LongAdder waitNanos = new LongAdder();
+    private static final LongAdder reuseCount = new LongAdder();
+
+    private final AtomicReference<CompletableFuture<C>> result = new AtomicReference<>(
+                                                                                        null);
+
+    /**
+     * Materialize via the supplied function, if no other thread is doing so already. Otherwise park until
+     * the materializing thread completes and return its result (or rethrow its error).
+     *
+     * @param materialize Function that materializes the collection (called at most once)
+     * @return Materialized collection
+     */
+    public C get(final Supplier<? extends C> materialize) {
+        CompletableFuture<C> current = result.get();
+        if (current == null) {
+            final CompletableFuture<C> mine = new CompletableFuture<>();
+            if (result.compareAndSet(null, mine)) { //this thread materializes
+                try {
+                    mine.complete(materialize.get());
+                } catch (final Throwable t) {
+                    mine.completeExceptionally(t); //hand error to waiting threads and later callers
+                }
+                return join(mine);
+            }
+            current = result.get();
+        }
+        if (current.isDone())
+            return join(current);
+        return await(current);
+
+    }
+
+    /**
+     * As {@link #get(Supplier)}, reporting the materialization to the registered {@link MaterializationListener} (if any)
+     *
+     * @param collection Lazy collection being materialized
+     * @param source Flux that is being materialized
+     * @param materialize Function that materializes the collection (called at most once)
+     * @return Materialized collection
+     */
+    public C get(final Object collection, final Object source, final Supplier<? extends C> materialize) {
+        final MaterializationListener l = listener;
+        if (l == null)
+            return get(materialize);
+        return get(() -> {
+            final MaterializationEvent event = MaterializationEvent.start(collection, source, false);
+            l.onStart(event);
+            final C res;
+            try {
+                res = materialize.get();
+            } catch (final Throwable t) {
+                l.onComplete(event.complete(null, t));
+                throw t;
+            }
+            l.onComplete(event.complete(res, null));
+            return res;
+        });
+    }
+
+    /**
+     * As {@link #getAsync(Supplier)}, reporting the materialization to the registered {@link MaterializationListener} (if
+     * any)
+     *
+     * @param collection Lazy collection being materialized
+     * @param source Flux that is being materialized
+     * @param materialize Function that starts materialization (called at most once)
+     * @return Future that completes with the materialized collection (or the error)
+     */
+    public CompletableFuture<C> getAsync(final Object collection, final Object source,
+            final Supplier<? extends CompletableFuture<? extends C>> materialize) {
+        final MaterializationListener l = listener;
+        if (l == null)
+            return getAsync(materialize);
+        return getAsync(() -> {
+            final MaterializationEvent event = MaterializationEvent.start(collection, source, true);
+            l.onStart(event);
+            final CompletableFuture<? extends C> res;
+            try {
+                res = materialize.get();
+            } catch (final Throwable t) {
+                l.onComplete(event.complete(null, t));
+                throw t;
+            }
+            return res.whenComplete((value, error) -> l.onComplete(event.complete(value,
+                                                                                  error instanceof CompletionException && error.getCause() != null
+                                                                                          ? error.getCause() : error)));
+        });
+    }
+
+    /**
+     * Start materializing asynchronously via the supplied function, if no other thread is materializing already.
+     * Threads calling {@link #get(Supplier)} while the asynchronous materialization is in progress park until it completes.
+     *
+     * @param materialize Function that starts materialization (called at most once)
+     * @return Future that completes with the materialized collection (or the error)
+     */
+    public CompletableFuture<C> getAsync(final Supplier<? extends CompletableFuture<? extends C>> materialize) {
+        CompletableFuture<C> current = result.get();
+        if (current == null) {
+            final CompletableFuture<C> mine = new CompletableFuture<>();
+            if (result.compareAndSet(null, mine)) {
+                try {
+                    materialize.get()
+                               .whenComplete((res, error) -> {
+                                   if (error != null)
+                                       mine.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                                               ? error.getCause() : error);
+                                   else
+                                       mine.complete(res);
+                               });
+                } catch (final Throwable t) {
+                    mine.completeExceptionally(t);
+                }
+            }
+            current = result.get();
+        }
+        return current.thenApply(Function.identity()); //callers can't complete the shared future
+    }
+
+    /**
+     * @return true if materialization has completed (successfully or not)
+     */
+    public boolean isDone() {
+        final CompletableFuture<C> current = result.get();
+        return current != null && current.isDone();
+    }
+
+    private C await(final CompletableFuture<C> current) {
+        final long start = System.nanoTime();
+        try {
+            final long timeout = waitTimeoutNanos;
+            return timeout < 0 ? current.get() : current.get(timeout, TimeUnit.NANOSECONDS);
+        } catch (final ExecutionException e) {
+            throw ExceptionSoftener.throwSoftenedException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        } catch (final TimeoutException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        } finally {
+            waitCount.increment();
+            waitNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private C join(final CompletableFuture<C> done) {
+        try {
+            return done.get();
+        } catch (final ExecutionException e) {
+            throw ExceptionSoftener.throwSoftenedException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * Set the maximum time a thread will wait for another thread to finish materializing a shared lazy collection,
+     * after which a (softened) {@link TimeoutException} is thrown. The materializing thread itself is not affected.
+     *
+     * @param time Max time to wait, negative values mean wait indefinitely (the default)
+     * @param unit TimeUnit for time
+     */
+    public static void setWaitTimeout(final long time, final TimeUnit unit) {
+        waitTimeoutNanos = time < 0 ? -1l : unit.toNanos(time);
+    }
+
+    /**
+     * Register a listener to be notified of every lazy collection materialization. Materialization is not instrumented
+     * while no listener is registered.
+     *
+     * @param materializationListener Listener to register, or null to disable instrumentation
+     */
+    public static void setListener(final MaterializationListener materializationListener) {
+        listener = materializationListener;
+    }
+
+    /**
+     * @return Currently registered MaterializationListener, or null if none
+     */
+    public static MaterializationListener getListener() {
+        return listener;
+    }
+
+    /**
+     * @return Number of times a thread has had to wait for another thread to materialize a lazy collection
+     */
+    public static long waitCount() {
+        return waitCount.sum();
+    }
+
+    /**
+     * @return Total time (in nanoseconds) threads have spent waiting for other threads to materialize lazy collections
+     */
+    public static long waitNanos() {
+        return waitNanos.sum();
+    }
+
+    /**
+     * @return Number of times a collection derived from a shared or cached lazy collection reused its result (or cached
+     *         elements) rather than re-running its queued operations
+     */
+    public static long reuseCount() {
+        return reuseCount.sum();
+    }
+
+    static void reused() {
+        reuseCount.increment();
+    }
+
+    /**
+     * Reset the wait and reuse counters
+     */
+    public static void resetStats() {
+        waitCount.reset();
+        waitNanos.reset();
+        reuseCount.reset();
+    }
+}
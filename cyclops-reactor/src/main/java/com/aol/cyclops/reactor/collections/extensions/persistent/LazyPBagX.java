@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
@@ -47,6 +48,8 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * An extended Bag type
@@ -240,7 +243,8 @@ public class LazyPBagX<T> extends AbstractFluentCollectionX<T>implements PBagX<T
      * @return ListX
      */
     public static <T> LazyPBagX<T> fromPublisher(Publisher<? extends T> publisher) {
-        return fromStreamS(ReactiveSeq.fromPublisher((Publisher<T>) publisher));
+        return new LazyPBagX<T>(
+                                Flux.from((Publisher<T>) publisher));
     }
 
     /**
@@ -630,6 +634,61 @@ public class LazyPBagX<T> extends AbstractFluentCollectionX<T>implements PBagX<T
         return (LazyPBagX<T>) super.limit(num);
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#topK(long, java.util.Comparator)
+     */
+    @Override
+    public LazyPBagX<T> topK(long k, Comparator<? super T> c) {
+        return (LazyPBagX<T>) super.topK(k, c);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#parallel(int)
+     */
+    @Override
+    public LazyPBagX<T> parallel(int parallelism) {
+        return (LazyPBagX<T>) super.parallel(parallelism);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#parallel(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public LazyPBagX<T> parallel(Scheduler scheduler) {
+        return (LazyPBagX<T>) super.parallel(scheduler);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#share()
+     */
+    @Override
+    public LazyPBagX<T> share() {
+        return (LazyPBagX<T>) super.share();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#cache()
+     */
+    @Override
+    public LazyPBagX<T> cache() {
+        return (LazyPBagX<T>) super.cache();
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1698,4 +1757,30 @@ public class LazyPBagX<T> extends AbstractFluentCollectionX<T>implements PBagX<T
        return this;
     }
 
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyPBagX<T>> materializeAsync() {
+        return this.lazy.getAsync(null)
+                        .map(c -> this);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeOn(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public Mono<LazyPBagX<T>> materializeOn(Scheduler scheduler) {
+        return this.lazy.getAsync(scheduler)
+                        .map(c -> this);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeFuture()
+     */
+    @Override
+    public CompletableFuture<LazyPBagX<T>> materializeFuture() {
+        return materializeAsync().toFuture();
+    }
+
 }
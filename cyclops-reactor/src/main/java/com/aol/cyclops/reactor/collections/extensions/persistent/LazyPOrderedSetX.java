@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
@@ -46,6 +47,8 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * An extended OrderedSet type {@see java.util.Set}
@@ -256,7 +259,8 @@ public class LazyPOrderedSetX<T> extends AbstractFluentCollectionX<T>implements
      * @return ListX
      */
     public static <T> LazyPOrderedSetX<T> fromPublisher(Publisher<? extends T> publisher) {
-        return fromStreamS(ReactiveSeq.fromPublisher((Publisher<T>) publisher));
+        return new LazyPOrderedSetX<T>(
+                                       Flux.from((Publisher<T>) publisher));
     }
 
     /**
@@ -645,6 +649,61 @@ public class LazyPOrderedSetX<T> extends AbstractFluentCollectionX<T>implements
         return (LazyPOrderedSetX<T>) super.limit(num);
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#topK(long, java.util.Comparator)
+     */
+    @Override
+    public LazyPOrderedSetX<T> topK(long k, Comparator<? super T> c) {
+        return (LazyPOrderedSetX<T>) super.topK(k, c);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#parallel(int)
+     */
+    @Override
+    public LazyPOrderedSetX<T> parallel(int parallelism) {
+        return (LazyPOrderedSetX<T>) super.parallel(parallelism);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#parallel(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public LazyPOrderedSetX<T> parallel(Scheduler scheduler) {
+        return (LazyPOrderedSetX<T>) super.parallel(scheduler);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#share()
+     */
+    @Override
+    public LazyPOrderedSetX<T> share() {
+        return (LazyPOrderedSetX<T>) super.share();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#cache()
+     */
+    @Override
+    public LazyPOrderedSetX<T> cache() {
+        return (LazyPOrderedSetX<T>) super.cache();
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1739,4 +1798,30 @@ public class LazyPOrderedSetX<T> extends AbstractFluentCollectionX<T>implements
        return this;
     }
 
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyPOrderedSetX<T>> materializeAsync() {
+        return this.lazy.getAsync(null)
+                        .map(c -> this);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeOn(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public Mono<LazyPOrderedSetX<T>> materializeOn(Scheduler scheduler) {
+        return this.lazy.getAsync(scheduler)
+                        .map(c -> this);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeFuture()
+     */
+    @Override
+    public CompletableFuture<LazyPOrderedSetX<T>> materializeFuture() {
+        return materializeAsync().toFuture();
+    }
+
 }
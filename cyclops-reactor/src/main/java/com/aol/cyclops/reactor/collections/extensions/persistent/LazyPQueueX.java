@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
@@ -46,6 +47,8 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * An extended Queue type {@see java.util.Queue}
@@ -251,7 +254,8 @@ public class LazyPQueueX<T> extends AbstractFluentCollectionX<T>implements PQueu
      * @return ListX
      */
     public static <T> LazyPQueueX<T> fromPublisher(Publisher<? extends T> publisher) {
-        return fromStreamS(ReactiveSeq.fromPublisher((Publisher<T>) publisher));
+        return new LazyPQueueX<T>(
+                                  Flux.from((Publisher<T>) publisher));
     }
 
     /**
@@ -640,6 +644,61 @@ public class LazyPQueueX<T> extends AbstractFluentCollectionX<T>implements PQueu
         return (LazyPQueueX<T>) super.limit(num);
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#topK(long, java.util.Comparator)
+     */
+    @Override
+    public LazyPQueueX<T> topK(long k, Comparator<? super T> c) {
+        return (LazyPQueueX<T>) super.topK(k, c);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#parallel(int)
+     */
+    @Override
+    public LazyPQueueX<T> parallel(int parallelism) {
+        return (LazyPQueueX<T>) super.parallel(parallelism);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#parallel(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public LazyPQueueX<T> parallel(Scheduler scheduler) {
+        return (LazyPQueueX<T>) super.parallel(scheduler);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#share()
+     */
+    @Override
+    public LazyPQueueX<T> share() {
+        return (LazyPQueueX<T>) super.share();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#cache()
+     */
+    @Override
+    public LazyPQueueX<T> cache() {
+        return (LazyPQueueX<T>) super.cache();
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1767,4 +1826,30 @@ public class LazyPQueueX<T> extends AbstractFluentCollectionX<T>implements PQueu
        return this;
     }
 
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyPQueueX<T>> materializeAsync() {
+        return this.lazy.getAsync(null)
+                        .map(c -> this);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeOn(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public Mono<LazyPQueueX<T>> materializeOn(Scheduler scheduler) {
+        return this.lazy.getAsync(scheduler)
+                        .map(c -> this);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeFuture()
+     */
+    @Override
+    public CompletableFuture<LazyPQueueX<T>> materializeFuture() {
+        return materializeAsync().toFuture();
+    }
+
 }
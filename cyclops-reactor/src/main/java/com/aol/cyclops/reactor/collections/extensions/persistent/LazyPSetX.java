@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
@@ -47,6 +48,8 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * An extended Set type {@see java.util.Set}
@@ -256,7 +259,8 @@ public class LazyPSetX<T> extends AbstractFluentCollectionX<T>implements PSetX<T
      * @return ListX
      */
     public static <T> LazyPSetX<T> fromPublisher(Publisher<? extends T> publisher) {
-        return fromStreamS(ReactiveSeq.fromPublisher((Publisher<T>) publisher));
+        return new LazyPSetX<T>(
+                                Flux.from((Publisher<T>) publisher));
     }
 
     /**
@@ -645,6 +649,61 @@ public class LazyPSetX<T> extends AbstractFluentCollectionX<T>implements PSetX<T
         return (LazyPSetX<T>) super.limit(num);
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#topK(long, java.util.Comparator)
+     */
+    @Override
+    public LazyPSetX<T> topK(long k, Comparator<? super T> c) {
+        return (LazyPSetX<T>) super.topK(k, c);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#parallel(int)
+     */
+    @Override
+    public LazyPSetX<T> parallel(int parallelism) {
+        return (LazyPSetX<T>) super.parallel(parallelism);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#parallel(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public LazyPSetX<T> parallel(Scheduler scheduler) {
+        return (LazyPSetX<T>) super.parallel(scheduler);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#share()
+     */
+    @Override
+    public LazyPSetX<T> share() {
+        return (LazyPSetX<T>) super.share();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#cache()
+     */
+    @Override
+    public LazyPSetX<T> cache() {
+        return (LazyPSetX<T>) super.cache();
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1715,4 +1774,30 @@ public class LazyPSetX<T> extends AbstractFluentCollectionX<T>implements PSetX<T
        this.lazy.get();
        return this;
     }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyPSetX<T>> materializeAsync() {
+        return this.lazy.getAsync(null)
+                        .map(c -> this);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeOn(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public Mono<LazyPSetX<T>> materializeOn(Scheduler scheduler) {
+        return this.lazy.getAsync(scheduler)
+                        .map(c -> this);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeFuture()
+     */
+    @Override
+    public CompletableFuture<LazyPSetX<T>> materializeFuture() {
+        return materializeAsync().toFuture();
+    }
 }
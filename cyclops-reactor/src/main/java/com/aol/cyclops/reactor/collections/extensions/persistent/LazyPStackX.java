@@ -8,6 +8,7 @@ import java.util.ListIterator;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
@@ -47,6 +48,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Wither;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * An extended Persistent List type {@see java.util.List}
@@ -263,7 +266,8 @@ public class LazyPStackX<T> extends AbstractFluentCollectionX<T>implements PStac
      * @return ListX
      */
     public static <T> LazyPStackX<T> fromPublisher(Publisher<? extends T> publisher) {
-        return fromStreamS(ReactiveSeq.fromPublisher((Publisher<T>) publisher));
+        return new LazyPStackX<T>(
+                                  Flux.from((Publisher<T>) publisher));
     }
 
     /**
@@ -784,6 +788,61 @@ public class LazyPStackX<T> extends AbstractFluentCollectionX<T>implements PStac
         return (LazyPStackX<T>) super.limit(num);
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#topK(long, java.util.Comparator)
+     */
+    @Override
+    public LazyPStackX<T> topK(long k, Comparator<? super T> c) {
+        return (LazyPStackX<T>) super.topK(k, c);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#parallel(int)
+     */
+    @Override
+    public LazyPStackX<T> parallel(int parallelism) {
+        return (LazyPStackX<T>) super.parallel(parallelism);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#parallel(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public LazyPStackX<T> parallel(Scheduler scheduler) {
+        return (LazyPStackX<T>) super.parallel(scheduler);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#share()
+     */
+    @Override
+    public LazyPStackX<T> share() {
+        return (LazyPStackX<T>) super.share();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#cache()
+     */
+    @Override
+    public LazyPStackX<T> cache() {
+        return (LazyPStackX<T>) super.cache();
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1874,4 +1933,30 @@ public class LazyPStackX<T> extends AbstractFluentCollectionX<T>implements PStac
        this.lazy.get();
        return this;
     }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyPStackX<T>> materializeAsync() {
+        return this.lazy.getAsync(null)
+                        .map(c -> this);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeOn(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public Mono<LazyPStackX<T>> materializeOn(Scheduler scheduler) {
+        return this.lazy.getAsync(scheduler)
+                        .map(c -> this);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeFuture()
+     */
+    @Override
+    public CompletableFuture<LazyPStackX<T>> materializeFuture() {
+        return materializeAsync().toFuture();
+    }
 }
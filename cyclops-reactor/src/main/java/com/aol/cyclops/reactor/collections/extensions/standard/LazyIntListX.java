@@ -0,0 +1,272 @@
+package com.aol.cyclops.reactor.collections.extensions.standard;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.base.Materializer;
+
+/**
+ * A lazy, primitive specialized List of ints backed by an int[].
+ *
+ * Operations such as map, filter and limit are queued and run (unboxed, in a single pass) when the List is first
+ * accessed, at which point the result is cached in an int[]. Reductions over a List that has not yet been materialized
+ * run directly over the queued operations, without allocating the array. Elements are only boxed when converted into a
+ * ListX or LazyListX.
+ *
+ * <pre>
+ * {@code
+ *    LazyIntListX.range(0,10_000_000)
+ *                .map(i->i*2)
+ *                .filter(i->i%3==0)
+ *                .sum();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class LazyIntListX {
+
+    private final Supplier<IntStream> pipeline;
+    private final boolean replayable;
+    private final Materializer<int[]> materializer = new Materializer<>();
+    private volatile int[] values;
+
+    private LazyIntListX(Supplier<IntStream> pipeline, boolean replayable) {
+        this.pipeline = pipeline;
+        this.replayable = replayable;
+    }
+
+    private LazyIntListX(int[] values) {
+        this.pipeline = null;
+        this.replayable = true;
+        this.values = values;
+    }
+
+    static LazyIntListX fromSupplier(Supplier<IntStream> pipeline) {
+        return new LazyIntListX(
+                                pipeline, true);
+    }
+
+    /**
+     * Create a LazyIntListX that contains the ints between start and end
+     *
+     * @param start
+     *            Number of range to start from
+     * @param end
+     *            Number for range to end at (exclusive)
+     * @return Range LazyIntListX
+     */
+    public static LazyIntListX range(int start, int end) {
+        return fromSupplier(() -> IntStream.range(start, end));
+    }
+
+    /**
+     * Construct a LazyIntListX from the provided values
+     *
+     * @param values to populate LazyIntListX with
+     * @return LazyIntListX
+     */
+    public static LazyIntListX of(int... values) {
+        return new LazyIntListX(
+                                values.clone());
+    }
+
+    /**
+     * Construct a LazyIntListX from an IntStream (the Stream will be consumed when the List is first accessed)
+     *
+     * @param stream to populate LazyIntListX from
+     * @return LazyIntListX
+     */
+    public static LazyIntListX fromIntStream(IntStream stream) {
+        return new LazyIntListX(
+                                () -> stream, false);
+    }
+
+    /**
+     * @return empty LazyIntListX
+     */
+    public static LazyIntListX empty() {
+        return new LazyIntListX(
+                                new int[0]);
+    }
+
+    private IntStream stream() {
+        final int[] materialized = values;
+        if (materialized != null)
+            return IntStream.of(materialized);
+        return replayable ? pipeline.get() : IntStream.of(get()); //single use Streams are materialized once and shared
+    }
+
+    private int[] get() {
+        final int[] materialized = values;
+        if (materialized != null)
+            return materialized;
+        return materializer.get(() -> {
+            final int[] res = pipeline.get()
+                                      .toArray();
+            values = res;
+            return res;
+        });
+    }
+
+    /**
+     * @param mapper Unboxed transformation function
+     * @return LazyIntListX with the transformation queued
+     */
+    public LazyIntListX map(IntUnaryOperator mapper) {
+        return fromSupplier(() -> stream().map(mapper));
+    }
+
+    /**
+     * @param mapper Unboxed transformation function
+     * @return LazyLongListX with the transformation queued
+     */
+    public LazyLongListX mapToLong(IntToLongFunction mapper) {
+        return LazyLongListX.fromSupplier(() -> stream().mapToLong(mapper));
+    }
+
+    /**
+     * @param mapper Transformation function to an Object type
+     * @return LazyListX with the transformation queued
+     */
+    public <R> LazyListX<R> mapToObj(IntFunction<? extends R> mapper) {
+        return LazyListX.fromStreamS(stream().mapToObj(mapper));
+    }
+
+    /**
+     * @param predicate Unboxed filter
+     * @return LazyIntListX with the filter queued
+     */
+    public LazyIntListX filter(IntPredicate predicate) {
+        return fromSupplier(() -> stream().filter(predicate));
+    }
+
+    /**
+     * @param num Max number of elements to retain
+     * @return LazyIntListX with the limit queued
+     */
+    public LazyIntListX limit(long num) {
+        return fromSupplier(() -> stream().limit(num));
+    }
+
+    /**
+     * @param num Number of elements to skip
+     * @return LazyIntListX with the skip queued
+     */
+    public LazyIntListX skip(long num) {
+        return fromSupplier(() -> stream().skip(num));
+    }
+
+    /**
+     * @param identity Identity value for the reduction
+     * @param reducer Unboxed reduction function
+     * @return Reduced value
+     */
+    public int reduce(int identity, IntBinaryOperator reducer) {
+        return stream().reduce(identity, reducer);
+    }
+
+    /**
+     * @return Sum of the elements in this List
+     */
+    public int sum() {
+        return reduce(0, (a, b) -> a + b);
+    }
+
+    /**
+     * @param action Unboxed action to perform on each element
+     */
+    public void forEach(IntConsumer action) {
+        for (final int next : get())
+            action.accept(next);
+    }
+
+    /**
+     * @param index Index of element
+     * @return element at index
+     */
+    public int getInt(int index) {
+        final int[] materialized = get();
+        if (index < 0 || index >= materialized.length)
+            throw new IndexOutOfBoundsException(
+                                                "Index: " + index + ", Size: " + materialized.length);
+        return materialized[index];
+    }
+
+    /**
+     * @return Number of elements in this List
+     */
+    public int size() {
+        return get().length;
+    }
+
+    /**
+     * @return true if this List has no elements
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return This List with any queued Lazy Operations materialized
+     */
+    public LazyIntListX materialize() {
+        get();
+        return this;
+    }
+
+    /**
+     * @return Copy of the elements in this List
+     */
+    public int[] toArray() {
+        return get().clone();
+    }
+
+    /**
+     * @return Elements of this List as an IntStream
+     */
+    public IntStream intStream() {
+        return IntStream.of(get());
+    }
+
+    /**
+     * @return Boxed copy of this List as a ListX
+     */
+    public ListX<Integer> toListX() {
+        return ListX.fromIterable(intStream().boxed()
+                                             .collect(ListX.listXCollector()));
+    }
+
+    /**
+     * @return Boxed LazyListX view of this List (boxing is performed when the LazyListX is materialized)
+     */
+    public LazyListX<Integer> boxed() {
+        return LazyListX.fromStreamS(stream().boxed());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof LazyIntListX))
+            return false;
+        return Arrays.equals(get(), ((LazyIntListX) o).get());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(get());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(get());
+    }
+}
@@ -8,6 +8,7 @@ import java.util.ListIterator;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
@@ -34,6 +35,7 @@ import com.aol.cyclops.control.Trampoline;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.reactor.Fluxes;
 import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX;
+import com.aol.cyclops.reactor.collections.extensions.base.IncrementalLazyCollection;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollection;
 
 import lombok.AccessLevel;
@@ -41,6 +43,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Wither;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * An extended List type {@see java.util.List}
@@ -101,6 +105,7 @@ public class LazyListX<T> extends AbstractFluentCollectionX<T>implements ListX<T
      * @param end
      *            Number for range to end at
      * @return Range ListX
+     * @see LazyIntListX#range(int, int) for an unboxed alternative
      */
     public static LazyListX<Integer> range(int start, int end) {
         return fromStreamS(ReactiveSeq.range(start, end));
@@ -114,6 +119,7 @@ public class LazyListX<T> extends AbstractFluentCollectionX<T>implements ListX<T
      * @param end
      *            Number for range to end at
      * @return Range ListX
+     * @see LazyLongListX#range(long, long) for an unboxed alternative
      */
     public static LazyListX<Long> rangeLong(long start, long end) {
         return fromStreamS(ReactiveSeq.rangeLong(start, end));
@@ -231,7 +237,8 @@ public class LazyListX<T> extends AbstractFluentCollectionX<T>implements ListX<T
      * @return ListX
      */
     public static <T> LazyListX<T> fromPublisher(Publisher<? extends T> publisher) {
-        return fromStreamS(ReactiveSeq.fromPublisher((Publisher<T>) publisher));
+        return new LazyListX<T>(
+                                Flux.from((Publisher<T>) publisher));
     }
 
     /**
@@ -314,6 +321,8 @@ public class LazyListX<T> extends AbstractFluentCollectionX<T>implements ListX<T
      */
     @Override
     public Iterator<T> iterator() {
+        if (lazy instanceof IncrementalLazyCollection)
+            return ((IncrementalLazyCollection<T, List<T>>) lazy).iterator();
         return getList().iterator();
     }
 
@@ -354,6 +363,8 @@ public class LazyListX<T> extends AbstractFluentCollectionX<T>implements ListX<T
      */
     @Override
     public boolean isEmpty() {
+        if (lazy instanceof IncrementalLazyCollection)
+            return ((IncrementalLazyCollection<T, List<T>>) lazy).isEmpty();
         return getList().isEmpty();
     }
 
@@ -534,6 +545,8 @@ public class LazyListX<T> extends AbstractFluentCollectionX<T>implements ListX<T
      */
     @Override
     public T get(int index) {
+        if (lazy instanceof IncrementalLazyCollection)
+            return ((IncrementalLazyCollection<T, List<T>>) lazy).get(index);
         return getList().get(index);
     }
 
@@ -628,6 +641,9 @@ public class LazyListX<T> extends AbstractFluentCollectionX<T>implements ListX<T
      */
     @Override
     public LazyListX<T> subList(int fromIndex, int toIndex) {
+        if (lazy instanceof IncrementalLazyCollection)
+            return new LazyListX<T>(
+                                    ((IncrementalLazyCollection<T, List<T>>) lazy).subList(fromIndex, toIndex), getCollector());
         return new LazyListX<T>(
                                 getList().subList(fromIndex, toIndex), getCollector());
     }
@@ -781,6 +797,61 @@ public class LazyListX<T> extends AbstractFluentCollectionX<T>implements ListX<T
         return (LazyListX<T>) super.limit(num);
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#topK(long, java.util.Comparator)
+     */
+    @Override
+    public LazyListX<T> topK(long k, Comparator<? super T> c) {
+        return (LazyListX<T>) super.topK(k, c);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#parallel(int)
+     */
+    @Override
+    public LazyListX<T> parallel(int parallelism) {
+        return (LazyListX<T>) super.parallel(parallelism);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#parallel(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public LazyListX<T> parallel(Scheduler scheduler) {
+        return (LazyListX<T>) super.parallel(scheduler);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#share()
+     */
+    @Override
+    public LazyListX<T> share() {
+        return (LazyListX<T>) super.share();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.collections.extensions.base.
+     * AbstractFluentCollectionX#cache()
+     */
+    @Override
+    public LazyListX<T> cache() {
+        return (LazyListX<T>) super.cache();
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1933,5 +2004,57 @@ public class LazyListX<T> extends AbstractFluentCollectionX<T>implements ListX<T
        return this;
     }
 
+    /**
+     * Materialize this LazyListX incrementally. get(index), subList, isEmpty and iterator will pull from the backing
+     * Flux only as far as the highest index requested, caching that prefix and keeping the subscription open for
+     * further access (other operations materialize the remainder of the List).
+     * 
+     * <pre>
+     * {@code 
+     *    LazyListX<Result> results = LazyListX.fromPublisher(query)
+     *                                         .map(this::decode)
+     *                                         .incremental();
+     *    results.subList(0,20);   //pulls and decodes 20 results only
+     *    results.get(0);          //cached
+     * }
+     * </pre>
+     * 
+     * @return LazyListX that materializes incrementally
+     */
+    public LazyListX<T> incremental() {
+        if (lazy instanceof IncrementalLazyCollection)
+            return this;
+        return new LazyListX<T>(
+                                new IncrementalLazyCollection<T, List<T>>(
+                                                                          flux(), collector),
+                                collector);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyListX<T>> materializeAsync() {
+        return this.lazy.getAsync(null)
+                        .map(c -> this);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeOn(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public Mono<LazyListX<T>> materializeOn(Scheduler scheduler) {
+        return this.lazy.getAsync(scheduler)
+                        .map(c -> this);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeFuture()
+     */
+    @Override
+    public CompletableFuture<LazyListX<T>> materializeFuture() {
+        return materializeAsync().toFuture();
+    }
+
 
 }
@@ -0,0 +1,272 @@
+package com.aol.cyclops.reactor.collections.extensions.standard;
+
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.base.Materializer;
+
+/**
+ * A lazy, primitive specialized List of longs backed by a long[].
+ *
+ * Operations such as map, filter and limit are queued and run (unboxed, in a single pass) when the List is first
+ * accessed, at which point the result is cached in a long[]. Reductions over a List that has not yet been materialized
+ * run directly over the queued operations, without allocating the array. Elements are only boxed when converted into a
+ * ListX or LazyListX.
+ *
+ * <pre>
+ * {@code
+ *    LazyLongListX.range(0,10_000_000_000l)
+ *                .map(i->i*2)
+ *                .filter(i->i%3==0)
+ *                .sum();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class LazyLongListX {
+
+    private final Supplier<LongStream> pipeline;
+    private final boolean replayable;
+    private final Materializer<long[]> materializer = new Materializer<>();
+    private volatile long[] values;
+
+    private LazyLongListX(Supplier<LongStream> pipeline, boolean replayable) {
+        this.pipeline = pipeline;
+        this.replayable = replayable;
+    }
+
+    private LazyLongListX(long[] values) {
+        this.pipeline = null;
+        this.replayable = true;
+        this.values = values;
+    }
+
+    static LazyLongListX fromSupplier(Supplier<LongStream> pipeline) {
+        return new LazyLongListX(
+                                pipeline, true);
+    }
+
+    /**
+     * Create a LazyLongListX that contains the longs between start and end
+     *
+     * @param start
+     *            Number of range to start from
+     * @param end
+     *            Number for range to end at (exclusive)
+     * @return Range LazyLongListX
+     */
+    public static LazyLongListX range(long start, long end) {
+        return fromSupplier(() -> LongStream.range(start, end));
+    }
+
+    /**
+     * Construct a LazyLongListX from the provided values
+     *
+     * @param values to populate LazyLongListX with
+     * @return LazyLongListX
+     */
+    public static LazyLongListX of(long... values) {
+        return new LazyLongListX(
+                                values.clone());
+    }
+
+    /**
+     * Construct a LazyLongListX from a LongStream (the Stream will be consumed when the List is first accessed)
+     *
+     * @param stream to populate LazyLongListX from
+     * @return LazyLongListX
+     */
+    public static LazyLongListX fromLongStream(LongStream stream) {
+        return new LazyLongListX(
+                                () -> stream, false);
+    }
+
+    /**
+     * @return empty LazyLongListX
+     */
+    public static LazyLongListX empty() {
+        return new LazyLongListX(
+                                new long[0]);
+    }
+
+    private LongStream stream() {
+        final long[] materialized = values;
+        if (materialized != null)
+            return LongStream.of(materialized);
+        return replayable ? pipeline.get() : LongStream.of(get()); //single use Streams are materialized once and shared
+    }
+
+    private long[] get() {
+        final long[] materialized = values;
+        if (materialized != null)
+            return materialized;
+        return materializer.get(() -> {
+            final long[] res = pipeline.get()
+                                      .toArray();
+            values = res;
+            return res;
+        });
+    }
+
+    /**
+     * @param mapper Unboxed transformation function
+     * @return LazyLongListX with the transformation queued
+     */
+    public LazyLongListX map(LongUnaryOperator mapper) {
+        return fromSupplier(() -> stream().map(mapper));
+    }
+
+    /**
+     * @param mapper Unboxed transformation function
+     * @return LazyIntListX with the transformation queued
+     */
+    public LazyIntListX mapToInt(LongToIntFunction mapper) {
+        return LazyIntListX.fromSupplier(() -> stream().mapToInt(mapper));
+    }
+
+    /**
+     * @param mapper Transformation function to an Object type
+     * @return LazyListX with the transformation queued
+     */
+    public <R> LazyListX<R> mapToObj(LongFunction<? extends R> mapper) {
+        return LazyListX.fromStreamS(stream().mapToObj(mapper));
+    }
+
+    /**
+     * @param predicate Unboxed filter
+     * @return LazyLongListX with the filter queued
+     */
+    public LazyLongListX filter(LongPredicate predicate) {
+        return fromSupplier(() -> stream().filter(predicate));
+    }
+
+    /**
+     * @param num Max number of elements to retain
+     * @return LazyLongListX with the limit queued
+     */
+    public LazyLongListX limit(long num) {
+        return fromSupplier(() -> stream().limit(num));
+    }
+
+    /**
+     * @param num Number of elements to skip
+     * @return LazyLongListX with the skip queued
+     */
+    public LazyLongListX skip(long num) {
+        return fromSupplier(() -> stream().skip(num));
+    }
+
+    /**
+     * @param identity Identity value for the reduction
+     * @param reducer Unboxed reduction function
+     * @return Reduced value
+     */
+    public long reduce(long identity, LongBinaryOperator reducer) {
+        return stream().reduce(identity, reducer);
+    }
+
+    /**
+     * @return Sum of the elements in this List
+     */
+    public long sum() {
+        return reduce(0, (a, b) -> a + b);
+    }
+
+    /**
+     * @param action Unboxed action to perform on each element
+     */
+    public void forEach(LongConsumer action) {
+        for (final long next : get())
+            action.accept(next);
+    }
+
+    /**
+     * @param index Index of element
+     * @return element at index
+     */
+    public long getLong(int index) {
+        final long[] materialized = get();
+        if (index < 0 || index >= materialized.length)
+            throw new IndexOutOfBoundsException(
+                                                "Index: " + index + ", Size: " + materialized.length);
+        return materialized[index];
+    }
+
+    /**
+     * @return Number of elements in this List
+     */
+    public int size() {
+        return get().length;
+    }
+
+    /**
+     * @return true if this List has no elements
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return This List with any queued Lazy Operations materialized
+     */
+    public LazyLongListX materialize() {
+        get();
+        return this;
+    }
+
+    /**
+     * @return Copy of the elements in this List
+     */
+    public long[] toArray() {
+        return get().clone();
+    }
+
+    /**
+     * @return Elements of this List as a LongStream
+     */
+    public LongStream longStream() {
+        return LongStream.of(get());
+    }
+
+    /**
+     * @return Boxed copy of this List as a ListX
+     */
+    public ListX<Long> toListX() {
+        return ListX.fromIterable(longStream().boxed()
+                                             .collect(ListX.listXCollector()));
+    }
+
+    /**
+     * @return Boxed LazyListX view of this List (boxing is performed when the LazyListX is materialized)
+     */
+    public LazyListX<Long> boxed() {
+        return LazyListX.fromStreamS(stream().boxed());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof LazyLongListX))
+            return false;
+        return Arrays.equals(get(), ((LazyLongListX) o).get());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(get());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(get());
+    }
+}
@@ -35,6 +35,21 @@ public abstract class AbstractPushablePublisher<T, X extends Adapter<T>, R exten
         consumer.accept(v1);
     }
 
+    /**
+     * @return Number of elements dropped because the input was full (always 0 unless the input is an {@link OverflowQueue})
+     */
+    public long dropped() {
+        return v1 instanceof OverflowQueue ? ((OverflowQueue<T>) v1).dropped() : 0;
+    }
+
+    /**
+     * @return Number of elements replaced by newer elements because the input was full (always 0 unless the input is an
+     *         {@link OverflowQueue})
+     */
+    public long coalesced() {
+        return v1 instanceof OverflowQueue ? ((OverflowQueue<T>) v1).coalesced() : 0;
+    }
+
     private static final long serialVersionUID = 1L;
 
 }
\ No newline at end of file
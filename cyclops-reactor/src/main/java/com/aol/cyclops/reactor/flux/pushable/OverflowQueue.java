@@ -0,0 +1,147 @@
+package com.aol.cyclops.reactor.flux.pushable;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.aol.cyclops.data.async.Queue;
+import com.aol.cyclops.data.async.wait.NoWaitRetry;
+
+import reactor.core.Exceptions;
+
+/**
+ * A bounded, non-blocking async Queue that applies an {@link OverflowStrategy} rather than blocking producers once it
+ * is full, and counts the elements that were dropped or coalesced as a result.
+ *
+ * <pre>
+ * {@code
+ *   OverflowQueue<Quote> quotes = new OverflowQueue<>(1,OverflowStrategy.KEEP_LATEST);
+ *   quotes.offer(q1);
+ *   quotes.offer(q2); //replaces q1
+ *   quotes.coalesced(); //1
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the Queue
+ */
+public class OverflowQueue<T> extends Queue<T> {
+
+    private final Buffer<T> buffer;
+
+    /**
+     * @param capacity Max number of buffered elements
+     * @param strategy Strategy to apply when the Queue is full
+     */
+    public OverflowQueue(final int capacity, final OverflowStrategy strategy) {
+        this(new Buffer<T>(
+                           capacity, strategy));
+    }
+
+    private OverflowQueue(final Buffer<T> buffer) {
+        super(buffer, new NoWaitRetry<>(), new NoWaitRetry<>());
+        this.buffer = buffer;
+    }
+
+    /**
+     * @return Strategy applied when this Queue is full
+     */
+    public OverflowStrategy getStrategy() {
+        return buffer.strategy;
+    }
+
+    /**
+     * @return Number of elements dropped (or rejected) because this Queue was full
+     */
+    public long dropped() {
+        return buffer.dropped.sum();
+    }
+
+    /**
+     * @return Number of elements replaced by a newer element because this Queue was full
+     */
+    public long coalesced() {
+        return buffer.coalesced.sum();
+    }
+
+    @Override
+    public boolean close() {
+        buffer.bypass = true; //end of stream signals must not be subject to the overflow strategy
+        return super.close();
+    }
+
+    @Override
+    public void disconnectStreams(final int streams) {
+        buffer.bypass = true;
+        try {
+            super.disconnectStreams(streams);
+        } finally {
+            buffer.bypass = false;
+        }
+    }
+
+    private static class Buffer<T> extends AbstractQueue<T> {
+
+        private final ArrayDeque<T> elements = new ArrayDeque<>();
+        private final int capacity;
+        private final OverflowStrategy strategy;
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private volatile boolean bypass;
+
+        Buffer(final int capacity, final OverflowStrategy strategy) {
+            if (capacity < 1)
+                throw new IllegalArgumentException(
+                                                   "Capacity must be 1 or more");
+            this.capacity = capacity;
+            this.strategy = Objects.requireNonNull(strategy);
+        }
+
+        @Override
+        public synchronized boolean offer(final T e) {
+            if (elements.size() < capacity || bypass)
+                return elements.offer(e);
+            switch (strategy) {
+            case DROP_OLDEST:
+                elements.poll();
+                dropped.increment();
+                return elements.offer(e);
+            case KEEP_LATEST:
+                elements.pollLast();
+                coalesced.increment();
+                return elements.offer(e);
+            case DROP_NEWEST:
+                dropped.increment();
+                return true; //accepted and discarded, so the producer doesn't retry
+            default:
+                dropped.increment();
+                throw Exceptions.failWithOverflow();
+            }
+        }
+
+        @Override
+        public synchronized T poll() {
+            return elements.poll();
+        }
+
+        @Override
+        public synchronized T peek() {
+            return elements.peek();
+        }
+
+        @Override
+        public synchronized int size() {
+            return elements.size();
+        }
+
+        @Override
+        public synchronized Iterator<T> iterator() {
+            return new ArrayList<>(
+                                   elements).iterator();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.aol.cyclops.reactor.flux.pushable;
+
+/**
+ * Strategy applied by an {@link OverflowQueue} when data is pushed faster than it is consumed and the
+ * buffer is full.
+ *
+ * @author johnmcclean
+ *
+ */
+public enum OverflowStrategy {
+    /**
+     * Remove the oldest buffered element to make room for the new one (counted as dropped)
+     */
+    DROP_OLDEST,
+    /**
+     * Discard the new element, keeping the buffered elements (counted as dropped)
+     */
+    DROP_NEWEST,
+    /**
+     * Replace the most recently buffered element with the new one (counted as coalesced), so the newest value
+     * is always delivered and consumer lag is bounded by the buffer size. With a capacity of 1 consumers only ever see
+     * the latest value.
+     */
+    KEEP_LATEST,
+    /**
+     * Reject the new element by throwing an IllegalStateException to the producer (counted as dropped)
+     */
+    FAIL_FAST
+}
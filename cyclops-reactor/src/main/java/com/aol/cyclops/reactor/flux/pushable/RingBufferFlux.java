@@ -0,0 +1,247 @@
+package com.aol.cyclops.reactor.flux.pushable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+
+/**
+ * A Flux that data can be pushed into by a single producer thread, backed by a pre-allocated single-producer /
+ * single-consumer ring buffer.
+ *
+ * Pushing does not allocate or lock, values are written directly into the ring and are emitted to the (single)
+ * Subscriber in batches sized to its outstanding demand, either on the producing thread or on the thread that
+ * requests more data. If the ring is full, push returns false rather than blocking the producer.
+ *
+ * <pre>
+ * {@code
+ *   RingBufferFlux<Packet> packets = FluxSource.ofSingleProducer(1024);
+ *   packets.map(this::decode)
+ *          .subscribe(this::handle);
+ *
+ *   //network reader thread
+ *   while(reader.read(buffer))
+ *      packets.push(buffer.next());
+ *   packets.complete();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements pushed into the Flux
+ */
+public class RingBufferFlux<T> extends Flux<T> {
+
+    private final Object[] ring;
+    private final int mask;
+
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+    private long producerLimit; //producer thread only, avoids reading consumerIndex on every push
+
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private volatile Subscriber<? super T> actual;
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+
+    /**
+     * @param capacity Minimum capacity of the ring buffer (rounded up to the next power of 2)
+     */
+    public RingBufferFlux(final int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException(
+                                               "Capacity must be 1 or more");
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.ring = new Object[size];
+        this.mask = size - 1;
+        this.producerLimit = size;
+    }
+
+    /**
+     * Push a value into this Flux, must only be called from a single producer thread
+     *
+     * @param value Value to push
+     * @return false if the ring buffer is full (or this Flux has been completed or cancelled)
+     */
+    public boolean push(final T value) {
+        Objects.requireNonNull(value);
+        if (done || cancelled)
+            return false;
+        final long index = producerIndex.get();
+        if (index >= producerLimit) {
+            producerLimit = consumerIndex.get() + ring.length;
+            if (index >= producerLimit)
+                return false;
+        }
+        ring[(int) index & mask] = value;
+        producerIndex.lazySet(index + 1);
+        drain();
+        return true;
+    }
+
+    /**
+     * Push a batch of values into this Flux, must only be called from a single producer thread
+     *
+     * @param values Array containing the values to push
+     * @param offset Index of the first value to push
+     * @param length Number of values to push
+     * @return Number of values pushed (less than length if the ring buffer fills up)
+     */
+    public int pushAll(final T[] values, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset + length > values.length)
+            throw new IndexOutOfBoundsException(
+                                                "offset: " + offset + ", length: " + length + ", array length: "
+                                                        + values.length);
+        if (done || cancelled)
+            return 0;
+        final long index = producerIndex.get();
+        long free = producerLimit - index;
+        if (free < length) {
+            producerLimit = consumerIndex.get() + ring.length;
+            free = producerLimit - index;
+        }
+        final int toPush = (int) Math.min(free, length);
+        for (int i = 0; i < toPush; i++)
+            ring[(int) (index + i) & mask] = Objects.requireNonNull(values[offset + i]);
+        if (toPush > 0) {
+            producerIndex.lazySet(index + toPush);
+            drain();
+        }
+        return toPush;
+    }
+
+    /**
+     * Complete this Flux once all values pushed so far have been emitted
+     */
+    public void complete() {
+        done = true;
+        drain();
+    }
+
+    /**
+     * Error this Flux once all values pushed so far have been emitted
+     *
+     * @param t Error to emit
+     */
+    public void completeExceptionally(final Throwable t) {
+        error = Objects.requireNonNull(t);
+        done = true;
+        drain();
+    }
+
+    /**
+     * @return Number of values pushed but not yet emitted
+     */
+    public int size() {
+        return (int) (producerIndex.get() - consumerIndex.get());
+    }
+
+    /**
+     * @return Capacity of the ring buffer
+     */
+    public int capacity() {
+        return ring.length;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> s) {
+        if (!subscribed.compareAndSet(false, true)) {
+            Operators.error(s, new IllegalStateException(
+                                                         "RingBufferFlux allows only a single Subscriber"));
+            return;
+        }
+        s.onSubscribe(new Subscription() {
+            @Override
+            public void request(final long n) {
+                if (Operators.validate(n)) {
+                    Operators.addAndGet(requested, n);
+                    drain();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                drain();
+            }
+        });
+        actual = s;
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0)
+            return;
+        int missed = 1;
+        for (;;) {
+            final Subscriber<? super T> a = actual;
+            if (a != null && emit(a))
+                return;
+            missed = wip.addAndGet(-missed);
+            if (missed == 0)
+                break;
+        }
+    }
+
+    /**
+     * @return true if terminated
+     */
+    private boolean emit(final Subscriber<? super T> a) {
+        long consumed = consumerIndex.get();
+        for (;;) {
+            if (cancelled) {
+                clear(consumed);
+                return true;
+            }
+            final boolean d = done; //read before the producer index, so no values pushed before completion are missed
+            final long available = producerIndex.get() - consumed;
+            if (available == 0) {
+                if (d) {
+                    final Throwable e = error;
+                    if (e != null)
+                        a.onError(e);
+                    else
+                        a.onComplete();
+                    cancelled = true;
+                    return true;
+                }
+                return false;
+            }
+            final long r = requested.get();
+            if (r == 0)
+                return false;
+            final long batch = Math.min(available, r);
+            for (long i = 0; i < batch; i++) {
+                final int slot = (int) consumed & mask;
+                @SuppressWarnings("unchecked") //only values of type T are pushed into the ring
+                final T value = (T) ring[slot];
+                ring[slot] = null;
+                consumerIndex.lazySet(++consumed);
+                a.onNext(value);
+                if (cancelled) {
+                    clear(consumed);
+                    return true;
+                }
+            }
+            if (r != Long.MAX_VALUE)
+                requested.addAndGet(-batch);
+        }
+    }
+
+    private void clear(long consumed) {
+        final long produced = producerIndex.get();
+        while (consumed < produced)
+            ring[(int) consumed++ & mask] = null;
+        consumerIndex.lazySet(consumed);
+    }
+}
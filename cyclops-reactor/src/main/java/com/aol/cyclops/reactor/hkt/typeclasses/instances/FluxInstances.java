@@ -1,15 +1,28 @@
 package com.aol.cyclops.reactor.hkt.typeclasses.instances;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
-import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.Traversals;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -19,9 +32,13 @@ import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
 import com.aol.cyclops.reactor.hkt.FluxType;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
+import reactor.core.Fuseable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Companion class for creating Type Class instances for working with Fluxs
@@ -151,7 +168,8 @@ public class FluxInstances {
     public static <T,R> Monad<FluxType.µ> monad(){
   
         BiFunction<Higher<FluxType.µ,T>,Function<? super T, ? extends Higher<FluxType.µ,R>>,Higher<FluxType.µ,R>> flatMap = FluxInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<FluxType.µ,Xor<T,R>>>,Higher<FluxType.µ,R>> tailRecM = FluxInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -217,20 +235,7 @@ public class FluxInstances {
      * @return Type class for traversables with traverse / sequence operations
      */
     public static <C2,T> Traverse<FluxType.µ> traverse(){
-        BiFunction<Applicative<C2>,FluxType<Higher<C2, T>>,Higher<C2, FluxType<T>>> sequenceFn = (ap,flux) -> {
-        
-            Higher<C2,FluxType<T>> identity = ap.unit(FluxType.widen(Flux.empty()));
-
-            BiFunction<Higher<C2,FluxType<T>>,Higher<C2,T>,Higher<C2,FluxType<T>>> combineToFlux =   (acc,next) -> ap.apBiFn(ap.unit((a,b) -> FluxType.widen(Flux.concat(a,Flux.just(b)))),acc,next);
-
-            BinaryOperator<Higher<C2,FluxType<T>>> combineFluxs = (a,b)-> ap.apBiFn(ap.unit((l1,l2)-> { return FluxType.widen(Flux.concat(l1.narrow(),l2.narrow()));}),a,b); ;  
-
-            return ReactiveSeq.fromPublisher(flux).reduce(identity,
-                                                            combineToFlux,
-                                                            combineFluxs);  
-
-   
-        };
+        BiFunction<Applicative<C2>,FluxType<Higher<C2, T>>,Higher<C2, FluxType<T>>> sequenceFn = (ap,flux) -> ap.map(l->FluxType.widen(Flux.fromIterable(l)), Traversals.sequence(ap, flux.narrow().toIterable(), -1));
         BiFunction<Applicative<C2>,Higher<FluxType.µ,Higher<C2, T>>,Higher<C2, Higher<FluxType.µ,T>>> sequenceNarrow  = 
                                                         (a,b) -> FluxType.widen2(sequenceFn.apply(a, FluxType.narrowK(b)));
         return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -251,10 +256,11 @@ public class FluxInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<FluxType.µ> foldable(){
+    public static <T,R> Foldable<FluxType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<FluxType.µ,T>,T> foldRightFn =  (m,l)-> ReactiveSeq.fromPublisher(FluxType.narrow(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<FluxType.µ,T>,T> foldLeftFn = (m,l)-> ReactiveSeq.fromPublisher(FluxType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<FluxType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> FluxInstances.parallelFoldMap(m, fn, FluxType.narrow(l), p);
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> FluxType<T> concat(FluxType<T> l1, FluxType<T> l2){
@@ -269,10 +275,204 @@ public class FluxInstances {
     private static <T,R> Higher<FluxType.µ,R> flatMap( Higher<FluxType.µ,T> lt, Function<? super T, ? extends  Higher<FluxType.µ,R>> fn){
         return FluxType.widen(FluxType.narrowK(lt).flatMap(fn.andThen(FluxType::narrowK)));
     }
+    private static <T,R> R parallelFoldMap(Monoid<R> mb, Function<? super T,? extends R> fn, Flux<T> flux, int parallelism){
+        if(parallelism<=1)
+            return flux.reduce(mb.zero(),(acc,next)->mb.apply(acc,fn.apply(next))).block();
+        //rails fold indexed chunks, which are recombined in encounter order as the Monoid need not be commutative
+        return flux.buffer(ParallelFold.SEQUENTIAL_THRESHOLD)
+                   .zipWith(Flux.range(0,Integer.MAX_VALUE),(chunk,index)->Tuple.tuple(index,chunk))
+                   .parallel(parallelism)
+                   .runOn(Schedulers.parallel())
+                   .map(t->t.map2(chunk->ParallelFold.foldMap(mb,fn,chunk,1)))
+                   .sequential()
+                   .collectList()
+                   .map(folded->{
+                       folded.sort((a,b)->a.v1.compareTo(b.v1));
+                       R result = mb.zero();
+                       for(Tuple2<Integer,R> next : folded)
+                           result = mb.apply(result,next.v2);
+                       return result;
+                   })
+                   .block();
+    }
+    private static <T,R> Higher<FluxType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<FluxType.µ,Xor<T,R>>> fn){
+        return FluxType.widen(Flux.<R>from(sub->sub.onSubscribe(new TailRecLoop<T,R>(sub,fn.andThen(FluxType::narrow),initial))));
+    }
     private static <T,R> FluxType<R> map(FluxType<T> lt, Function<? super T, ? extends R> fn){
         return FluxType.widen(lt.map(fn));
     }
     private static <T> FluxType<T> filter(Higher<FluxType.µ,T> lt, Predicate<? super T> fn){
         return FluxType.widen(FluxType.narrow(lt).filter(fn));
     }
+
+    /**
+     * Trampolined depth first traversal of the Fluxes returned by a tailRecM function. All signals (including downstream
+     * requests) are serialized through a drain loop, so neither synchronous nor asynchronous sources grow the call stack.
+     * Only one value is requested from one source at a time, and the traversal pauses whenever downstream demand is
+     * exhausted. Scalar sources (e.g. Flux.just) are evaluated inline and use no additional memory, other sources keep a
+     * Subscription per level until they complete.
+     */
+    private static final class TailRecLoop<T,R> implements Subscription {
+        private final Subscriber<? super R> actual;
+        private final Function<? super T, ? extends Publisher<Xor<T,R>>> fn;
+        private final Deque<Level> levels = new ArrayDeque<>();
+        private final Queue<Runnable> actions = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private long requested;
+        private Runnable paused; //the next step of the traversal, waiting for downstream demand
+        private boolean done;
+
+        TailRecLoop(Subscriber<? super R> actual, Function<? super T, ? extends Publisher<Xor<T,R>>> fn, T initial){
+            this.actual = actual;
+            this.fn = fn;
+            this.paused = ()->enter(initial);
+        }
+
+        @Override
+        public void request(long n) {
+            if(!Operators.validate(n))
+                return;
+            run(()->{
+                requested = Operators.addCap(requested,n);
+                final Runnable next = paused;
+                paused = null;
+                if(next!=null && !done)
+                    next.run();
+            });
+        }
+
+        @Override
+        public void cancel() {
+            run(this::cancelLevels);
+        }
+
+        private void run(Runnable action){
+            actions.offer(action);
+            if(wip.getAndIncrement()!=0)
+                return;
+            do{
+                actions.poll().run();
+            }while(wip.decrementAndGet()!=0);
+        }
+
+        private void whenRequested(Runnable step){
+            if(requested>0)
+                step.run();
+            else
+                paused = step;
+        }
+
+        private void emit(R value){
+            if(requested!=Long.MAX_VALUE)
+                requested--;
+            actual.onNext(value);
+        }
+
+        private void enter(T initial){
+            T value = initial;
+            while(!done){
+                Publisher<Xor<T,R>> next;
+                Xor<T,R> xor;
+                try{
+                    next = fn.apply(value);
+                    if(!(next instanceof Fuseable.ScalarCallable)){
+                        Level level = new Level();
+                        levels.push(level);
+                        next.subscribe(level);
+                        return;
+                    }
+                    @SuppressWarnings("unchecked") //next was returned by fn, so it publishes Xor<T,R>
+                    final Xor<T,R> scalar = ((Fuseable.ScalarCallable<Xor<T,R>>)next).call();
+                    xor = scalar;
+                }catch(Throwable t){
+                    error(t);
+                    return;
+                }
+                if(xor==null || xor.isPrimary()){
+                    if(xor!=null)
+                        emit(xor.get());
+                    resume();
+                    return;
+                }
+                value = xor.secondaryGet();
+            }
+        }
+
+        private void resume(){
+            if(levels.isEmpty()){
+                done = true;
+                actual.onComplete();
+            }
+            else{
+                final Level top = levels.peek();
+                whenRequested(()->top.s.request(1));
+            }
+        }
+
+        private void error(Throwable t){
+            cancelLevels();
+            actual.onError(t);
+        }
+
+        private void cancelLevels(){
+            done = true;
+            paused = null;
+            for(Level level : levels){
+                if(level.s!=null)
+                    level.s.cancel();
+            }
+            levels.clear();
+        }
+
+        private final class Level implements Subscriber<Xor<T,R>> {
+            Subscription s;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                run(()->{
+                    this.s = s;
+                    if(done)
+                        s.cancel();
+                    else
+                        whenRequested(()->s.request(1));
+                });
+            }
+
+            @Override
+            public void onNext(Xor<T,R> xor) {
+                run(()->{
+                    if(done)
+                        return;
+                    if(xor.isPrimary()){
+                        emit(xor.get());
+                        whenRequested(()->s.request(1));
+                    }
+                    else
+                        enter(xor.secondaryGet());
+                });
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                run(()->{
+                    if(!done)
+                        error(t);
+                });
+            }
+
+            @Override
+            public void onComplete() {
+                run(()->{
+                    if(done)
+                        return;
+                    if(levels.peek()==this){
+                        levels.pop();
+                        resume();
+                    }
+                    else
+                        levels.remove(this); //exhausted while a child is active, no need to keep it until the child completes
+                });
+            }
+        }
+    }
 }
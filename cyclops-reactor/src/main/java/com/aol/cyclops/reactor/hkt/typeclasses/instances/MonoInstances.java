@@ -6,8 +6,10 @@ import java.util.function.Function;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
 import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.jdk.CompletableFutureType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.comonad.Comonad;
@@ -20,6 +22,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
 import com.aol.cyclops.reactor.Monos;
 import com.aol.cyclops.reactor.hkt.MonoType;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
 import reactor.core.publisher.Mono;
@@ -153,7 +156,8 @@ public class MonoInstances {
     public static <T,R> Monad<MonoType.µ> monad(){
   
         BiFunction<Higher<MonoType.µ,T>,Function<? super T, ? extends Higher<MonoType.µ,R>>,Higher<MonoType.µ,R>> flatMap = MonoInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<MonoType.µ,Xor<T,R>>>,Higher<MonoType.µ,R>> tailRecM = MonoInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -243,10 +247,14 @@ public class MonoInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<MonoType.µ> foldable(){
+    public static <T,R> Foldable<MonoType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<MonoType.µ,T>,T> foldRightFn =  (m,l)-> m.apply(m.zero(), MonoType.narrow(l).block());
         BiFunction<Monoid<T>,Higher<MonoType.µ,T>,T> foldLeftFn = (m,l)->  m.apply(m.zero(), MonoType.narrow(l).block());
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<MonoType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> {
+            T value = MonoType.narrow(l).block();
+            return value==null ? m.zero() : m.apply(m.zero(), fn.apply(value));
+        };
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
     public static <T> Comonad<MonoType.µ> comonad(){
         Function<? super Higher<MonoType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(MonoType::narrow).block();
@@ -265,6 +273,9 @@ public class MonoInstances {
     private static <T,R> Higher<MonoType.µ,R> flatMap( Higher<MonoType.µ,T> lt, Function<? super T, ? extends  Higher<MonoType.µ,R>> fn){
         return MonoType.widen(MonoType.narrow(lt).flatMap(fn.andThen(MonoType::narrow)));
     }
+    private static <T,R> Higher<MonoType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<MonoType.µ,Xor<T,R>>> fn){
+        return MonoType.widen(Mono.defer(()->Mono.fromFuture(TailRec.future(initial, fn.andThen(h->MonoType.narrow(h).toFuture())))));
+    }
     private static <T,R> MonoType<R> map(MonoType<T> lt, Function<? super T, ? extends R> fn){
         return MonoType.widen(lt.narrow().map(fn));
     }
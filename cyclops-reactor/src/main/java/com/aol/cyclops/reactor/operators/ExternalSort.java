@@ -0,0 +1,347 @@
+package com.aol.cyclops.reactor.operators;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+
+/**
+ * Spill-to-disk (external merge) sort for Fluxes too large to sort in memory.
+ *
+ * The source Flux is buffered into runs of a fixed number of elements, each run is sorted and written to a temporary file
+ * via the configured {@link Serializer}, and the runs are then lazily k-way merged into the sorted output Flux. At most
+ * two runs are held in memory at any one time, plus a read buffer per run during the merge. Inputs that fit in a single
+ * run are sorted in memory without spilling. Temporary files are removed when the sorted Flux completes, errors or is
+ * cancelled.
+ *
+ * <pre>
+ * {@code
+ *    ExternalSort<String> external = ExternalSort.of(1_000_000, ExternalSort.javaSerializer());
+ *    Flux<String> sorted = Fluxes.sorted(export, Comparator.naturalOrder(), external);
+ *
+ *    //after the sort has run
+ *    long runs = external.runsSpilled();
+ *    long bytes = external.bytesSpilled();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements to sort
+ */
+public class ExternalSort<T> {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final int runSize;
+    private final Serializer<T> serializer;
+    private final Path tempDir;
+
+    private final LongAdder runsSpilled = new LongAdder();
+    private final LongAdder bytesSpilled = new LongAdder();
+
+    public ExternalSort(int runSize, Serializer<T> serializer, Path tempDir) {
+        if (runSize < 1)
+            throw new IllegalArgumentException(
+                                               "Run size must be 1 or more");
+        this.runSize = runSize;
+        this.serializer = serializer;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * Spill runs to the default temporary-file directory (java.io.tmpdir)
+     *
+     * @param runSize Maximum number of elements sorted in memory at once
+     * @param serializer Serializer used to write and read spilled elements
+     * @return ExternalSort configuration
+     */
+    public static <T> ExternalSort<T> of(int runSize, Serializer<T> serializer) {
+        return new ExternalSort<>(
+                                  runSize, serializer, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @return Serializer that uses standard Java serialization for each element
+     */
+    public static <T extends Serializable> Serializer<T> javaSerializer() {
+        return new JavaSerializer<>();
+    }
+
+    /**
+     * Sort the supplied Flux, spilling sorted runs to disk
+     *
+     * @param source Flux to sort
+     * @param comparator Ordering
+     * @return Lazily merged, sorted Flux (sorting is stable)
+     */
+    public Flux<T> sort(Flux<T> source, Comparator<? super T> comparator) {
+        return Flux.using(() -> new Runs(
+                                         comparator),
+                          runs -> source.buffer(runSize)
+                                        .doOnNext(runs::add)
+                                        .thenMany(Flux.<T, Merge> generate(runs::merge, (merge, sink) -> merge.next(sink))),
+                          Runs::close);
+    }
+
+    /**
+     * @return Total number of sorted runs spilled to disk by this ExternalSort
+     */
+    public long runsSpilled() {
+        return runsSpilled.sum();
+    }
+
+    /**
+     * @return Total number of bytes spilled to disk by this ExternalSort
+     */
+    public long bytesSpilled() {
+        return bytesSpilled.sum();
+    }
+
+    /**
+     * Reset the spill counters
+     */
+    public void resetStats() {
+        runsSpilled.reset();
+        bytesSpilled.reset();
+    }
+
+    /**
+     * Writes and reads elements spilled to disk during an external sort
+     *
+     * @param <T> Data type of elements
+     */
+    public static interface Serializer<T> {
+        void write(T value, DataOutputStream out) throws IOException;
+
+        T read(DataInputStream in) throws IOException;
+    }
+
+    private static class JavaSerializer<T extends Serializable> implements Serializer<T> {
+
+        @Override
+        public void write(T value, DataOutputStream out) throws IOException {
+            //one ObjectOutputStream per element, so no back-reference table builds up across a run
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objects = new ObjectOutputStream(
+                                                                     bytes)) {
+                objects.writeObject(value);
+            }
+            out.writeInt(bytes.size());
+            bytes.writeTo(out);
+        }
+
+        @Override
+        public T read(DataInputStream in) throws IOException {
+            final byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            try (ObjectInputStream objects = new ObjectInputStream(
+                                                                   new ByteArrayInputStream(
+                                                                                            bytes))) {
+                @SuppressWarnings("unchecked") //only values of type T are written to a run
+                final T value = (T) objects.readObject();
+                return value;
+            } catch (final ClassNotFoundException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+    }
+
+    private static class SpilledRun {
+        private final Path file;
+        private final int size;
+
+        SpilledRun(Path file, int size) {
+            this.file = file;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Sorted runs for a single subscription
+     */
+    private class Runs {
+        private final Comparator<? super T> comparator;
+        private final List<SpilledRun> spilled = new ArrayList<>();
+        private List<T> inMemory;
+        private Merge merge;
+
+        Runs(Comparator<? super T> comparator) {
+            this.comparator = comparator;
+        }
+
+        void add(List<T> run) {
+            run.sort(comparator);
+            if (inMemory != null) {
+                spill(inMemory);
+                inMemory = null;
+            }
+            if (spilled.isEmpty())
+                inMemory = run; //may be the only run
+            else
+                spill(run);
+        }
+
+        private void spill(List<T> run) {
+            try {
+                final Path file = Files.createTempFile(tempDir, "cyclops-sort-", ".run");
+                spilled.add(new SpilledRun(
+                                           file, run.size()));
+                try (DataOutputStream out = new DataOutputStream(
+                                                                 new BufferedOutputStream(
+                                                                                          Files.newOutputStream(file)))) {
+                    for (final T next : run)
+                        serializer.write(next, out);
+                }
+                runsSpilled.increment();
+                bytesSpilled.add(Files.size(file));
+            } catch (final IOException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+
+        Merge merge() throws IOException {
+            merge = new Merge(
+                              comparator);
+            int index = 0;
+            for (final SpilledRun run : spilled)
+                merge.add(new RunCursor(
+                                        index++, run.size,
+                                        new DataInputStream(
+                                                            new BufferedInputStream(
+                                                                                    Files.newInputStream(run.file),
+                                                                                    READ_BUFFER_SIZE))));
+            if (inMemory != null)
+                merge.add(new RunCursor(
+                                        index, inMemory));
+            inMemory = null;
+            return merge;
+        }
+
+        void close() {
+            inMemory = null;
+            if (merge != null)
+                merge.close();
+            for (final SpilledRun run : spilled) {
+                try {
+                    Files.deleteIfExists(run.file);
+                } catch (final IOException e) {
+                    run.file.toFile()
+                            .deleteOnExit();
+                }
+            }
+            spilled.clear();
+        }
+    }
+
+    /**
+     * Read position within a single sorted run
+     */
+    private class RunCursor {
+        private final int index;
+        private final DataInputStream in;
+        private final List<T> list;
+        private int remaining;
+        private int position;
+        private T head;
+
+        RunCursor(int index, int size, DataInputStream in) {
+            this.index = index;
+            this.in = in;
+            this.list = null;
+            this.remaining = size;
+        }
+
+        RunCursor(int index, List<T> list) {
+            this.index = index;
+            this.in = null;
+            this.list = list;
+            this.remaining = list.size();
+        }
+
+        boolean advance() throws IOException {
+            if (remaining == 0)
+                return false;
+            remaining--;
+            head = list != null ? list.get(position++) : serializer.read(in);
+            return true;
+        }
+
+        void close() {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (final IOException e) {
+                    //run file is deleted regardless
+                }
+            }
+        }
+    }
+
+    /**
+     * k-way merge of sorted runs, ties broken by run order so the overall sort is stable
+     */
+    private class Merge {
+        private final PriorityQueue<RunCursor> heads;
+        private final List<RunCursor> cursors = new ArrayList<>();
+
+        Merge(Comparator<? super T> comparator) {
+            this.heads = new PriorityQueue<>(
+                                             (a, b) -> {
+                                                 final int order = comparator.compare(a.head, b.head);
+                                                 return order != 0 ? order : Integer.compare(a.index, b.index);
+                                             });
+        }
+
+        void add(RunCursor cursor) throws IOException {
+            cursors.add(cursor);
+            if (cursor.advance())
+                heads.add(cursor);
+        }
+
+        Merge next(SynchronousSink<T> sink) {
+            final RunCursor cursor = heads.poll();
+            if (cursor == null) {
+                sink.complete();
+                return this;
+            }
+            final T value = cursor.head;
+            try {
+                if (cursor.advance())
+                    heads.add(cursor);
+                else
+                    cursor.close();
+            } catch (final IOException e) {
+                sink.error(e);
+                return this;
+            }
+            sink.next(value);
+            return this;
+        }
+
+        void close() {
+            heads.clear();
+            for (final RunCursor cursor : cursors)
+                cursor.close();
+        }
+    }
+}
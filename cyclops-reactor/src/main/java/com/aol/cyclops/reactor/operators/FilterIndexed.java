@@ -0,0 +1,110 @@
+package com.aol.cyclops.reactor.operators;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+
+/**
+ * Filter a Flux with a predicate that also receives each element's (zero based) index.
+ *
+ * The index is tracked in a primitive counter, so no Tuple or boxed index is allocated per element.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the Flux
+ */
+public class FilterIndexed<T> extends Flux<T> {
+
+    private final Flux<T> source;
+    private final IndexedPredicate<? super T> predicate;
+
+    public FilterIndexed(Flux<T> source, IndexedPredicate<? super T> predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        source.subscribe(new FilterIndexedSubscriber<>(
+                                                       s, predicate));
+    }
+
+    /**
+     * A predicate that accepts an element and its index within a Flux
+     *
+     * @param <T> Data type of element
+     */
+    @FunctionalInterface
+    public static interface IndexedPredicate<T> {
+        boolean test(T t, long index);
+    }
+
+    static final class FilterIndexedSubscriber<T> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super T> actual;
+        private final IndexedPredicate<? super T> predicate;
+
+        private Subscription s;
+        private long index;
+        private boolean done;
+
+        FilterIndexedSubscriber(Subscriber<? super T> actual, IndexedPredicate<? super T> predicate) {
+            this.actual = actual;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (Operators.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done)
+                return;
+            boolean keep;
+            try {
+                keep = predicate.test(t, index++);
+            } catch (Throwable e) {
+                onError(Operators.onOperatorError(s, e));
+                return;
+            }
+            if (keep)
+                actual.onNext(t);
+            else
+                s.request(1); //replace the demand used by the dropped element
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                Operators.onErrorDropped(t);
+                return;
+            }
+            done = true;
+            actual.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done)
+                return;
+            done = true;
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            s.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            s.cancel();
+        }
+    }
+}
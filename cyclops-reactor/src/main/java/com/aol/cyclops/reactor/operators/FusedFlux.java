@@ -0,0 +1,317 @@
+package com.aol.cyclops.reactor.operators;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import org.reactivestreams.Subscriber;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * A Flux over an already materialized Collection, followed by a chain of stateless stages (map, filter and limit).
+ *
+ * Stages added via {@link #fuseMap(Function)}, {@link #fuseFilter(Predicate)} and {@link #fuseLimit(long)} are
+ * recorded rather than wrapped in further Flux operators, so that when the result is collected via
+ * {@link #collectFused(Collector)} the whole chain runs as a single loop over the source collection, without
+ * Reactor subscription or per-stage signalling. If subscribed to as a Flux the stages are applied as the equivalent
+ * Reactor operators.
+ *
+ * <pre>
+ * {@code
+ *    FusedFlux.of(Arrays.asList(1,2,3,4))
+ *             .fuseMap(i->i*2)
+ *             .fuseFilter(i->i>2)
+ *             .fuseLimit(2)
+ *             .collectFused(Collectors.toList());
+ *    //[4,6]
+ * }
+ * </pre>
+ *
+ * A FusedFlux created via {@link #parallel(Flux, int, Scheduler)} instead materializes its source first (which may be a
+ * Flux), splits it into chunks and runs the stages over each chunk on ParallelFlux rails. Each chunk is accumulated
+ * into its own container and the containers are combined in encounter order, so list types keep their ordering.
+ * Chains containing a limit stage are always run sequentially.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in this Flux
+ */
+public class FusedFlux<T> extends Flux<T> {
+
+    private static final Stage[] NO_STAGES = new Stage[0];
+    private static final int CHUNKS_PER_RAIL = 4;
+
+    private final Collection<?> source;
+    private final Flux<?> upstream;
+    private final Stage[] stages;
+    private final int parallelism;
+    private final Scheduler scheduler;
+
+    private FusedFlux(Collection<?> source, Flux<?> upstream, Stage[] stages, int parallelism, Scheduler scheduler) {
+        this.source = source;
+        this.upstream = upstream;
+        this.stages = stages;
+        this.parallelism = parallelism;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @param source Materialized collection
+     * @return FusedFlux with no stages over the supplied collection
+     */
+    public static <T> FusedFlux<T> of(Collection<T> source) {
+        return new FusedFlux<>(
+                               source, null, NO_STAGES, 1, null);
+    }
+
+    /**
+     * Run the stages of the supplied Flux (and any further stages added to the result) in parallel when collected.
+     *
+     * @param flux Source to materialize in parallel, if it is already a FusedFlux its stages are retained
+     * @param parallelism Number of rails
+     * @param scheduler Scheduler to run the rails on
+     * @return FusedFlux that runs in parallel when collected
+     */
+    public static <T> FusedFlux<T> parallel(Flux<T> flux, int parallelism, Scheduler scheduler) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException(
+                                               "Parallelism must be 1 or more");
+        if (flux instanceof FusedFlux) {
+            final FusedFlux<T> fused = (FusedFlux<T>) flux;
+            return new FusedFlux<>(
+                                   fused.source, fused.upstream, fused.stages, parallelism, scheduler);
+        }
+        return new FusedFlux<>(
+                               null, flux, NO_STAGES, parallelism, scheduler);
+    }
+
+    /**
+     * @param mapper Transformation function
+     * @return FusedFlux with a map stage appended
+     */
+    public <R> FusedFlux<R> fuseMap(Function<? super T, ? extends R> mapper) {
+        return with(new Stage(
+                              Stage.MAP, mapper, null, 0));
+    }
+
+    /**
+     * @param predicate Filter
+     * @return FusedFlux with a filter stage appended
+     */
+    public FusedFlux<T> fuseFilter(Predicate<? super T> predicate) {
+        return with(new Stage(
+                              Stage.FILTER, null, predicate, 0));
+    }
+
+    /**
+     * @param num Maximum number of elements to pass
+     * @return FusedFlux with a limit stage appended
+     */
+    public FusedFlux<T> fuseLimit(long num) {
+        if (num < 0)
+            throw new IllegalArgumentException(
+                                               "n >= 0 required but it was " + num);
+        return with(new Stage(
+                              Stage.LIMIT, null, null, num));
+    }
+
+    private <R> FusedFlux<R> with(Stage stage) {
+        final Stage[] next = new Stage[stages.length + 1];
+        System.arraycopy(stages, 0, next, 0, stages.length);
+        next[stages.length] = stage;
+        return new FusedFlux<>(
+                               source, upstream, next, parallelism, scheduler);
+    }
+
+    /**
+     * Run all stages in a single loop over the source collection (or in parallel over chunks of it), collecting the
+     * results
+     *
+     * @param collector Collector for the results
+     * @return Collected result
+     */
+    public <A, R> R collectFused(Collector<? super T, A, R> collector) {
+        final Collection<?> src = source != null ? source : upstream.collectList()
+                                                                    .block();
+        if (runsParallel(src))
+            return collectParallel(src, collector).block();
+        return collectSequential(src, collector);
+    }
+
+    /**
+     * Non-blocking equivalent of {@link #collectFused(Collector)}, the source Flux (if any) is collected and parallel
+     * chunks are combined as they complete, rather than by blocking the subscribing thread.
+     *
+     * @param collector Collector for the results
+     * @return Mono that completes with the collected result
+     */
+    public <A, R> Mono<R> collectFusedAsync(Collector<? super T, A, R> collector) {
+        final Mono<? extends Collection<?>> src = source != null ? Mono.just(source) : upstream.collectList();
+        return src.then(c -> runsParallel(c) ? collectParallel(c, collector)
+                : Mono.fromCallable(() -> collectSequential(c, collector)));
+    }
+
+    private boolean runsParallel(Collection<?> src) {
+        if (parallelism <= 1 || src.size() <= 1)
+            return false;
+        for (final Stage stage : stages) {
+            if (stage.kind == Stage.LIMIT)
+                return false;
+        }
+        return true;
+    }
+
+    private <A, R> R collectSequential(Collection<?> src, Collector<? super T, A, R> collector) {
+        final A container = collector.supplier()
+                                     .get();
+        for (final Stage stage : stages) {
+            if (stage.kind == Stage.LIMIT && stage.limit == 0)
+                return collector.finisher()
+                                .apply(container);
+        }
+        final BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        final long[] counts = new long[stages.length];
+        if (src instanceof List && src instanceof RandomAccess) {
+            final List<?> list = (List<?>) src;
+            final int size = list.size();
+            for (int i = 0; i < size; i++) {
+                if (!push(list.get(i), counts, container, accumulator))
+                    break;
+            }
+        } else {
+            final Iterator<?> it = src.iterator();
+            while (it.hasNext()) {
+                if (!push(it.next(), counts, container, accumulator))
+                    break;
+            }
+        }
+        return collector.finisher()
+                        .apply(container);
+    }
+
+    private <A, R> Mono<R> collectParallel(Collection<?> src, Collector<? super T, A, R> collector) {
+        final List<?> list = src instanceof List && src instanceof RandomAccess ? (List<?>) src : new ArrayList<>(
+                                                                                                                   src);
+        final int size = list.size();
+        final int chunks = Math.min(size, parallelism * CHUNKS_PER_RAIL);
+        final Supplier<A> supplier = collector.supplier();
+        final BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        return Flux.range(0, chunks)
+                   .parallel(parallelism)
+                   .runOn(scheduler)
+                   .map(chunk -> {
+                       final A container = supplier.get();
+                       final long[] counts = new long[stages.length];
+                       final int to = (int) ((long) size * (chunk + 1) / chunks);
+                       for (int i = (int) ((long) size * chunk / chunks); i < to; i++)
+                           push(list.get(i), counts, container, accumulator);
+                       return new Chunk<>(
+                                          chunk, container);
+                   })
+                   .sequential()
+                   .collectList()
+                   .map(results -> {
+                       results.sort((a, b) -> Integer.compare(a.index, b.index));
+                       final BinaryOperator<A> combiner = collector.combiner();
+                       A result = results.get(0).container;
+                       for (int i = 1; i < chunks; i++)
+                           result = combiner.apply(result, results.get(i).container);
+                       return collector.finisher()
+                                       .apply(result);
+                   });
+    }
+
+    /**
+     * @return false once a limit stage is exhausted
+     */
+    private <A> boolean push(Object value, long[] counts, A container, BiConsumer<A, ? super T> accumulator) {
+        Object next = value;
+        boolean more = true;
+        for (int s = 0; s < stages.length; s++) {
+            final Stage stage = stages[s];
+            switch (stage.kind) {
+            case Stage.MAP:
+                next = stage.mapper.apply(next);
+                if (next == null)
+                    throw new NullPointerException(
+                                                   "The mapper returned a null value.");
+                break;
+            case Stage.FILTER:
+                if (!stage.predicate.test(next))
+                    return more;
+                break;
+            default:
+                if (++counts[s] == stage.limit)
+                    more = false;
+            }
+        }
+        accumulator.accept(container, FusedFlux.<T> cast(next));
+        return more;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        Flux<Object> flux = source != null ? Flux.<Object> fromIterable(source) : cast(upstream);
+        for (final Stage stage : stages) {
+            switch (stage.kind) {
+            case Stage.MAP:
+                flux = flux.map(stage.mapper);
+                break;
+            case Stage.FILTER:
+                flux = flux.filter(stage.predicate);
+                break;
+            default:
+                flux = flux.take(stage.limit);
+            }
+        }
+        FusedFlux.<Flux<T>> cast(flux)
+                 .subscribe(s);
+    }
+
+    /**
+     * Stages are stored untyped, the element type at each point is tracked by the methods that add them
+     */
+    @SuppressWarnings("unchecked")
+    private static <R> R cast(Object value) {
+        return (R) value;
+    }
+
+    private static final class Chunk<A> {
+        final int index;
+        final A container;
+
+        Chunk(int index, A container) {
+            this.index = index;
+            this.container = container;
+        }
+    }
+
+    private static final class Stage {
+        static final int MAP = 0;
+        static final int FILTER = 1;
+        static final int LIMIT = 2;
+
+        final int kind;
+        final Function<Object, Object> mapper;
+        final Predicate<Object> predicate;
+        final long limit;
+
+        Stage(int kind, Function<?, ?> mapper, Predicate<?> predicate, long limit) {
+            this.kind = kind;
+            this.mapper = cast(mapper);
+            this.predicate = cast(predicate);
+            this.limit = limit;
+        }
+    }
+}
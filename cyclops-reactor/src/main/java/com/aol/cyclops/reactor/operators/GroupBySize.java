@@ -1,14 +1,27 @@
 package com.aol.cyclops.reactor.operators;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.function.Supplier;
 
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
 import com.aol.cyclops.data.collections.extensions.standard.ListXImpl;
-import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
 
+/**
+ * Batch a Flux into collections of a fixed number of elements.
+ *
+ * The source Flux is subscribed to when the grouped Flux is subscribed to, and requested from in proportion to downstream
+ * demand (groupSize elements per requested batch). Each batch is emitted as soon as it is complete.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the source Flux
+ * @param <C> Collection type used to store each batch
+ */
 public class GroupBySize<T, C extends Collection<? super T>> {
 
     private final Flux<T> stream;
@@ -28,29 +41,97 @@ public class GroupBySize<T, C extends Collection<? super T>> {
         if (groupSize < 1)
             throw new IllegalArgumentException(
                                                "Batch size must be 1 or more");
-          SeqSubscriber<T> sub = SeqSubscriber.subscriber();
-           Iterator<T> it = stream.subscribeWith(sub)
-                               .iterator();
-
-        return Flux.fromIterable(() -> new Iterator<C>() {
-
+        return new Flux<C>() {
             @Override
-            public boolean hasNext() {
-                return it.hasNext();
+            public void subscribe(Subscriber<? super C> s) {
+                stream.subscribe(new GroupBySizeSubscriber<>(
+                                                             s, groupSize, factory));
             }
+        };
+    }
 
-            @Override
-            public C next() {
-                C list = factory.get();
-                for (int i = 0; i < groupSize; i++) {
-                    if (it.hasNext())
-                        list.add(it.next());
+    /**
+     * Counts elements (rather than collection size) so that Set based batches still close after groupSize elements
+     */
+    static final class GroupBySizeSubscriber<T, C extends Collection<? super T>> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super C> actual;
+        private final int groupSize;
+        private final Supplier<C> factory;
+
+        private Subscription s;
+        private C batch;
+        private int count;
+        private boolean done;
+
+        GroupBySizeSubscriber(Subscriber<? super C> actual, int groupSize, Supplier<C> factory) {
+            this.actual = actual;
+            this.groupSize = groupSize;
+            this.factory = factory;
+        }
 
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (Operators.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done)
+                return;
+            C b = batch;
+            if (b == null) {
+                try {
+                    b = factory.get();
+                } catch (Throwable e) {
+                    onError(Operators.onOperatorError(s, e));
+                    return;
                 }
-                return list;
+                batch = b;
             }
+            b.add(t);
+            if (++count == groupSize) {
+                batch = null;
+                count = 0;
+                actual.onNext(b);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                Operators.onErrorDropped(t);
+                return;
+            }
+            done = true;
+            batch = null;
+            actual.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done)
+                return;
+            done = true;
+            C b = batch;
+            batch = null;
+            if (b != null)
+                actual.onNext(b);
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            if (Operators.validate(n))
+                s.request(Operators.multiplyCap(n, groupSize));
+        }
 
-        });
+        @Override
+        public void cancel() {
+            s.cancel();
+        }
     }
 
-}
\ No newline at end of file
+}
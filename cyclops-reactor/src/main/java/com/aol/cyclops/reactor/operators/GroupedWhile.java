@@ -1,17 +1,27 @@
 package com.aol.cyclops.reactor.operators;
 
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import com.aol.cyclops.data.collections.extensions.standard.ListXImpl;
-import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 
 import reactor.core.publisher.Flux;
 
+/**
+ * Batch a Flux into collections while a predicate holds. The first element for which the predicate fails closes the
+ * current batch.
+ * 
+ * The source Flux is subscribed to when the batched Flux is subscribed to. Upstream elements are only requested as
+ * downstream demand requires, and each batch is emitted as soon as it is closed.
+ * 
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the source Flux
+ * @param <C> Collection type used to store each batch
+ */
 public class GroupedWhile<T, C extends Collection<? super T>> {
-    private static final Object UNSET = new Object();
     private final Flux<T> stream;
     private final Supplier<C> factory;
 
@@ -26,42 +36,24 @@ public class GroupedWhile<T, C extends Collection<? super T>> {
     }
 
     public Flux<C> batchWhile(Predicate<? super T> predicate) {
-        SeqSubscriber<T> sub = SeqSubscriber.subscriber();
-        Iterator<T> it = stream.subscribeWith(sub)
-                               .iterator();
+        return Flux.defer(() -> {
+            AtomicReference<C> current = new AtomicReference<>(
+                                                               null); //open batch, per subscription
+            return stream.<C> handle((next, sink) -> {
+                C batch = current.get() == null ? factory.get() : current.get();
+                batch.add(next);
+                if (!predicate.test(next)) {
+                    current.set(null);
+                    sink.next(batch);
+                } else
+                    current.set(batch);
+            })
+                         .concatWith(Flux.defer(() -> {
+                             C remaining = current.getAndSet(null);
+                             return remaining == null ? Flux.empty() : Flux.just(remaining);
+                         }));
+        });
 
-        return Flux.fromIterable(() -> new Iterator<C>() {
-            T value = (T) UNSET;
-
-            @Override
-            public boolean hasNext() {
-                return value != UNSET || it.hasNext();
-            }
-
-            @Override
-            public C next() {
-
-                C list = factory.get();
-                if (value != UNSET)
-                    list.add(value);
-                T value;
-
-                label: while (it.hasNext()) {
-                    value = it.next();
-                    list.add(value);
-
-                    if (!predicate.test(value)) {
-                        value = (T) UNSET;
-                        break label;
-                    }
-                    value = (T) UNSET;
-
-                }
-                return list;
-            }
-
-        })
-                   .filter(l -> l.size() > 0);
     }
 
 }
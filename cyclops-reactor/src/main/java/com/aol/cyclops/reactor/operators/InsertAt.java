@@ -0,0 +1,190 @@
+package com.aol.cyclops.reactor.operators;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+
+/**
+ * Insert values into a Flux at a given position, with a single subscription to the source.
+ *
+ * Elements before the insertion point are passed straight through (upstream is requested from no further than the
+ * insertion point), the inserted values are then emitted as downstream demand allows and finally the remainder of the
+ * source is passed straight through. If the source has fewer elements than the insertion point the values are appended.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the Flux
+ */
+public class InsertAt<T> extends Flux<T> {
+
+    private final Flux<T> source;
+    private final long pos;
+    private final T[] values;
+
+    public InsertAt(Flux<T> source, long pos, T[] values) {
+        if (pos < 0)
+            throw new IllegalArgumentException(
+                                               "Insertion position must be 0 or more");
+        this.source = source;
+        this.pos = pos;
+        this.values = values;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        source.subscribe(new InsertAtSubscriber<>(
+                                                  s, pos, values));
+    }
+
+    static final class InsertAtSubscriber<T> implements Subscriber<T>, Subscription {
+        private static final int BEFORE = 0;
+        private static final int INSERTING = 1;
+        private static final int AFTER = 2;
+
+        private final Subscriber<? super T> actual;
+        private final long pos;
+        private final T[] values;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private Subscription s;
+        private volatile int phase;
+        private long index;
+        private long upstreamRequested;
+        private int valueIndex;
+        private volatile boolean done;
+        private volatile Throwable error;
+        private volatile boolean cancelled;
+        private boolean terminated;
+
+        InsertAtSubscriber(Subscriber<? super T> actual, long pos, T[] values) {
+            this.actual = actual;
+            this.pos = pos;
+            this.values = values;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (Operators.validate(this.s, s)) {
+                this.s = s;
+                if (pos == 0)
+                    phase = INSERTING;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done)
+                return;
+            if (phase == AFTER) {
+                actual.onNext(t);
+                return;
+            }
+            requested.decrementAndGet();
+            actual.onNext(t);
+            if (++index == pos) {
+                phase = INSERTING;
+                drain();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                Operators.onErrorDropped(t);
+                return;
+            }
+            error = t;
+            done = true;
+            if (phase == BEFORE)
+                actual.onError(t);
+            else
+                drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done)
+                return;
+            done = true;
+            if (phase == BEFORE)
+                phase = INSERTING; //source was shorter than pos, append the values
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (!Operators.validate(n))
+                return;
+            Operators.addAndGet(requested, n);
+            if (phase == BEFORE) {
+                long toRequest = Math.min(n, pos - upstreamRequested);
+                if (toRequest > 0) {
+                    upstreamRequested += toRequest;
+                    s.request(toRequest);
+                }
+            }
+            if (phase == AFTER) {
+                long r = requested.getAndSet(0);
+                if (r > 0)
+                    s.request(r);
+            } else {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            s.cancel();
+        }
+
+        private void drain() {
+            if (phase == BEFORE || wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            for (;;) {
+                if (cancelled || terminated)
+                    return;
+                Throwable e = error;
+                if (e != null) {
+                    terminated = true;
+                    actual.onError(e);
+                    return;
+                }
+                while (valueIndex < values.length && requested.get() > 0) {
+                    if (cancelled)
+                        return;
+                    actual.onNext(values[valueIndex++]);
+                    requested.decrementAndGet();
+                }
+                if (valueIndex == values.length) {
+                    phase = AFTER;
+                    if (done) {
+                        e = error;
+                        terminated = true;
+                        if (e != null)
+                            actual.onError(e);
+                        else
+                            actual.onComplete();
+                        return;
+                    }
+                    //hand over any demand that arrived while inserting, remaining demand is passed straight through
+                    long r = requested.getAndSet(0);
+                    if (r > 0)
+                        s.request(r);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.aol.cyclops.reactor.operators;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+
+/**
+ * Transform each element of a Flux with a function that also receives the element's (zero based) index.
+ *
+ * The index is tracked in a primitive counter, so no Tuple or boxed index is allocated per element.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the source Flux
+ * @param <R> Data type of elements in this Flux
+ */
+public class MapIndexed<T, R> extends Flux<R> {
+
+    private final Flux<T> source;
+    private final IndexedFunction<? super T, ? extends R> mapper;
+
+    public MapIndexed(Flux<T> source, IndexedFunction<? super T, ? extends R> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super R> s) {
+        source.subscribe(new MapIndexedSubscriber<>(
+                                                    s, mapper));
+    }
+
+    /**
+     * A function that accepts an element and its index within a Flux
+     *
+     * @param <T> Data type of element
+     * @param <R> Return type
+     */
+    @FunctionalInterface
+    public static interface IndexedFunction<T, R> {
+        R apply(T t, long index);
+    }
+
+    static final class MapIndexedSubscriber<T, R> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super R> actual;
+        private final IndexedFunction<? super T, ? extends R> mapper;
+
+        private Subscription s;
+        private long index;
+        private boolean done;
+
+        MapIndexedSubscriber(Subscriber<? super R> actual, IndexedFunction<? super T, ? extends R> mapper) {
+            this.actual = actual;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (Operators.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done)
+                return;
+            R r;
+            try {
+                r = mapper.apply(t, index++);
+            } catch (Throwable e) {
+                onError(Operators.onOperatorError(s, e));
+                return;
+            }
+            actual.onNext(r);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                Operators.onErrorDropped(t);
+                return;
+            }
+            done = true;
+            actual.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done)
+                return;
+            done = true;
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            s.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            s.cancel();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.aol.cyclops.reactor.operators;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+import org.reactivestreams.Subscriber;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * A Flux that sorts its source on subscription. Retains the source and Comparator so that a subsequent limit can be
+ * answered with a bounded heap (see {@link TopK}) rather than a full sort.
+ * 
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in this Flux
+ */
+public class SortedFlux<T> extends Flux<T> {
+
+    private final Flux<T> source;
+    private final Comparator<? super T> comparator;
+
+    public SortedFlux(Flux<T> source, Comparator<? super T> comparator) {
+        this.source = source;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        source.collectSortedList(comparator)
+              .flatMapIterable(Function.identity())
+              .subscribe(s);
+    }
+
+    /**
+     * @param k Number of elements to keep
+     * @return Flux of the first k elements in sorted order, computed with a bounded heap
+     */
+    public Flux<T> limit(long k) {
+        return topK(source, k, comparator);
+    }
+
+    /**
+     * @param source Flux to select from
+     * @param k Number of elements to keep
+     * @param comparator Ordering
+     * @return Flux of the first k elements of source in sorted order
+     */
+    public static <T> Flux<T> topK(Flux<T> source, long k, Comparator<? super T> comparator) {
+        if (k >= Integer.MAX_VALUE)
+            return new SortedFlux<>(
+                                    source, comparator);
+        return source.collect(() -> new TopK<T>(
+                                                (int) k, comparator),
+                              TopK::offer)
+                     .flatMapIterable(TopK::toList);
+    }
+}
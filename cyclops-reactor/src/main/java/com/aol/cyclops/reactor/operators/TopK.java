@@ -0,0 +1,96 @@
+package com.aol.cyclops.reactor.operators;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Accumulates the first k elements (according to the supplied Comparator) of a sequence in a bounded heap.
+ * 
+ * Equivalent to a stable sort followed by a limit of k, but uses O(k) memory and O(n log k) time.
+ * Elements that compare as equal are returned in encounter order.
+ * 
+ * <pre>
+ * {@code 
+ *    TopK<Integer> top = new TopK<>(2,Comparator.naturalOrder());
+ *    top.offer(5);
+ *    top.offer(1);
+ *    top.offer(3);
+ *    
+ *    top.toList();
+ *    //[1,3]
+ * }
+ * </pre>
+ * 
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+public class TopK<T> {
+
+    private final int k;
+    private final Comparator<? super T> comparator;
+    private final PriorityQueue<Entry<T>> heap; //largest retained element at the head
+    private long index = 0;
+
+    public TopK(int k, Comparator<? super T> comparator) {
+        if (k < 0)
+            throw new IllegalArgumentException(
+                                               "k must be 0 or more");
+        this.k = k;
+        this.comparator = comparator;
+        this.heap = new PriorityQueue<>(
+                                        Math.max(1, Math.min(k, 256)), this.<Entry<T>> entryOrder()
+                                                                           .reversed());
+    }
+
+    /**
+     * @param value Next element in the sequence
+     */
+    public void offer(T value) {
+        long next = index++;
+        if (k == 0)
+            return;
+        if (heap.size() < k) {
+            heap.add(new Entry<>(
+                                 value, next));
+        } else if (comparator.compare(value, heap.peek().value) < 0) { //later element, so ties stay out
+            Entry<T> evicted = heap.poll();
+            evicted.value = value;
+            evicted.index = next;
+            heap.add(evicted);
+        }
+    }
+
+    /**
+     * @return The retained elements in sorted order
+     */
+    public List<T> toList() {
+        List<Entry<T>> entries = new ArrayList<>(
+                                                 heap);
+        entries.sort(entryOrder());
+        List<T> result = new ArrayList<>(
+                                         entries.size());
+        for (Entry<T> e : entries)
+            result.add(e.value);
+        return result;
+    }
+
+    private <E extends Entry<T>> Comparator<E> entryOrder() {
+        return (a, b) -> {
+            int res = comparator.compare(a.value, b.value);
+            return res != 0 ? res : Long.compare(a.index, b.index);
+        };
+    }
+
+    private static final class Entry<T> {
+        T value;
+        long index;
+
+        Entry(T value, long index) {
+            this.value = value;
+            this.index = index;
+        }
+    }
+}
@@ -262,7 +262,7 @@ public interface FluxT<T> extends FoldableTransformerSeq<T> {
      * @return  FluxTransformer for manipulating nested Fluxes
      */
     public static <A> FluxTSeq<A> fromIterable(Iterable<Flux<A>> iterableOfFluxs) {
-        return FluxTSeq.of(AnyM.fromIterable(iterableOfFluxs));
+        return FluxTSeq.fromIterable(iterableOfFluxs);
     }
 
     /**
@@ -278,7 +278,7 @@ public interface FluxT<T> extends FoldableTransformerSeq<T> {
      * @return FluxTransformer for manipulating nested Fluxes
      */
     public static <A> FluxTSeq<A> fromPublisher(Publisher<Flux<A>> publisherOfFluxs) {
-        return FluxTSeq.of(AnyM.fromPublisher(publisherOfFluxs));
+        return FluxTSeq.fromPublisher(publisherOfFluxs);
     }
 
     /**
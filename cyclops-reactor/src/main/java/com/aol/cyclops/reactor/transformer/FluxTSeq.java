@@ -3,6 +3,7 @@ package com.aol.cyclops.reactor.transformer;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -18,6 +19,7 @@ import org.jooq.lambda.Seq;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
+import org.reactivestreams.Publisher;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.AnyM;
@@ -39,10 +41,31 @@ import reactor.core.publisher.Flux;
  */
 public class FluxTSeq<T> implements FluxT<T> {
 
-    private final AnyMSeq<Flux<T>> run;
+    private volatile AnyMSeq<Flux<T>> run;
+    /**
+     * Direct representation used when the outer monad is a Flux or an Iterable, operations are applied as nested
+     * Reactor operators rather than via AnyM (run is then only built on demand)
+     */
+    private final Flux<Flux<T>> nested;
+    private final boolean iterable;
 
     private FluxTSeq(final AnyMSeq<? extends Flux<T>> run) {
         this.run = (AnyMSeq) (run);
+        this.nested = null;
+        this.iterable = false;
+    }
+
+    private FluxTSeq(final Flux<Flux<T>> nested, final boolean iterable) {
+        this.nested = nested;
+        this.iterable = iterable;
+    }
+
+    private <B> FluxTSeq<B> mapNested(Function<? super Flux<T>, ? extends Flux<B>> fn) {
+        if (nested != null)
+            return new FluxTSeq<B>(
+                                   nested.map(fn), iterable);
+        return new FluxTSeq<B>(
+                               run.map(o -> fn.apply(o)));
     }
 
     /*
@@ -52,6 +75,9 @@ public class FluxTSeq<T> implements FluxT<T> {
      * isSeqPresent()
      */
     public boolean isSeqPresent() {
+        if (nested != null)
+            return nested.hasElements()
+                         .block();
         return !run.isEmpty();
     }
 
@@ -59,7 +85,14 @@ public class FluxTSeq<T> implements FluxT<T> {
      * @return The wrapped AnyM
      */
     public AnyMSeq<Flux<T>> unwrap() {
-        return run;
+        AnyMSeq<Flux<T>> local = run;
+        if (local == null) {
+            local = iterable ? AnyM.fromIterable(nested.collectList()
+                                                       .block())
+                    : AnyM.fromPublisher(nested);
+            run = local;
+        }
+        return local;
     }
 
     /**
@@ -97,7 +130,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      * @return FluxT that applies the provided filter
      */
     public FluxTSeq<T> filter(Predicate<? super T> test) {
-        return of(run.map(stream -> stream.filter(i -> test.test(i))));
+        return mapNested(stream -> stream.filter(i -> test.test(i)));
     }
 
     /**
@@ -117,8 +150,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      * @return FluxT that applies the map function to the wrapped Stream
      */
     public <B> FluxTSeq<B> map(Function<? super T, ? extends B> f) {
-        return new FluxTSeq<B>(
-                               run.map(o -> o.map(i -> f.apply(i))));
+        return mapNested(o -> o.map(i -> f.apply(i)));
     }
 
     /**
@@ -136,8 +168,10 @@ public class FluxTSeq<T> implements FluxT<T> {
      * @return FluxT that applies the flatMap function to the wrapped Stream
      */
     public <B> FluxTSeq<B> flatMapT(Function<? super T, FluxTSeq<? extends B>> f) {
-        return of(run.map(stream -> stream.flatMap(a -> Flux.from(f.apply(a).run.stream()))
-                                          .<B> flatMap(a -> a)));
+        return mapNested(stream -> stream.flatMap(a -> Flux.from(f.apply(a)
+                                                                  .unwrap()
+                                                                  .stream()))
+                                         .<B> flatMap(a -> a));
     }
 
     /*
@@ -149,8 +183,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     public <B> FluxTSeq<B> flatMap(Function<? super T, ? extends Flux<? extends B>> f) {
 
-        return new FluxTSeq<B>(
-                               run.map(o -> o.flatMap(f)));
+        return mapNested(o -> o.flatMap(f));
 
     }
 
@@ -185,18 +218,46 @@ public class FluxTSeq<T> implements FluxT<T> {
      * @param monads AnyM that wraps a Flux containing monad
      * @return FluxTSeq
      */
+    @SuppressWarnings("unchecked")
     public static <A> FluxTSeq<A> of(AnyMSeq<? extends Flux<A>> monads) {
+        final Object outer = monads.unwrap();
+        if (outer instanceof Publisher)
+            return fromPublisher((Publisher<Flux<A>>) outer);
+        if (outer instanceof List)
+            return fromIterable((List<Flux<A>>) outer);
         return new FluxTSeq<>(
                               monads);
     }
 
+    /**
+     * Create a FluxT from a Publisher of Fluxes, operations are applied directly to the nested Fluxes
+     * 
+     * @param nested Publisher of Fluxes
+     * @return FluxTSeq
+     */
+    public static <A> FluxTSeq<A> fromPublisher(Publisher<? extends Flux<A>> nested) {
+        return new FluxTSeq<A>(
+                               Flux.from(nested), false);
+    }
+
+    /**
+     * Create a FluxT from an Iterable of Fluxes, operations are applied directly to the nested Fluxes
+     * 
+     * @param nested Iterable of Fluxes
+     * @return FluxTSeq
+     */
+    public static <A> FluxTSeq<A> fromIterable(Iterable<? extends Flux<A>> nested) {
+        return new FluxTSeq<A>(
+                               Flux.fromIterable(nested), true);
+    }
+
     /*
      * (non-Javadoc)
      * 
      * @see java.lang.Object#toString()
      */
     public String toString() {
-        return String.format("FluxTSeq[%s]", run);
+        return String.format("FluxTSeq[%s]", unwrap());
     }
 
     /*
@@ -206,7 +267,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public <T> FluxTSeq<T> unit(T unit) {
-        return of(run.unit(Flux.just(unit)));
+        return of(unwrap().unit(Flux.just(unit)));
     }
 
     /*
@@ -218,6 +279,8 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public ReactiveSeq<T> stream() {
+        if (nested != null)
+            return ReactiveSeq.fromPublisher(flux());
         return run.map(i -> ReactiveSeq.fromPublisher(i))
                   .stream()
                   .flatMap(e -> e);
@@ -230,6 +293,8 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public Flux<T> flux() {
+        if (nested != null)
+            return nested.concatMap(i -> i);
         return Flux.from(stream());
     }
 
@@ -250,7 +315,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      * Iterator)
      */
     public <R> FluxTSeq<R> unitIterator(Iterator<R> it) {
-        return of(run.unitIterator(it)
+        return of(unwrap().unitIterator(it)
                      .map(i -> Flux.just(i)));
     }
 
@@ -261,7 +326,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public <R> FluxT<R> empty() {
-        return of(run.empty());
+        return of(unwrap().empty());
     }
 
     /*
@@ -271,7 +336,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public AnyM<? extends IterableFoldable<T>> nestedFoldables() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return unwrap().map(i -> ReactiveSeq.fromPublisher(i));
 
     }
 
@@ -282,7 +347,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public AnyM<? extends CyclopsCollectable<T>> nestedCollectables() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return unwrap().map(i -> ReactiveSeq.fromPublisher(i));
 
     }
 
@@ -306,7 +371,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public AnyMSeq<? extends Traversable<T>> transformerStream() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return unwrap().map(i -> ReactiveSeq.fromPublisher(i));
     }
 
     /*
@@ -959,7 +1024,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public int hashCode() {
-        return run.hashCode();
+        return unwrap().hashCode();
     }
 
     /*
@@ -970,7 +1035,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public boolean equals(Object o) {
         if (o instanceof FluxTSeq) {
-            return run.equals(((FluxTSeq) o).run);
+            return unwrap().equals(((FluxTSeq) o).unwrap());
         }
         return false;
     }
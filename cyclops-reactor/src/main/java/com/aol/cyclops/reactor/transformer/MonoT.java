@@ -5,6 +5,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -92,6 +93,85 @@ public interface MonoT<A> extends Unit<A>, Publisher<A>, Functor<A>, Filterable<
      */
     public AnyM<Mono<A>> unwrap();
 
+    /**
+     * Subscribe to the nested Monos, with at most maxConcurrency in flight at any one time, collecting their values
+     * (in order) into a single Mono
+     * 
+     * <pre>
+     * {@code 
+     *    MonoT.fromIterable(ListX.range(0,10_000).map(this::callRemote))
+     *         .sequence(32);
+     *         
+     *    //Mono[ListX[..]]
+     * }
+     * </pre>
+     * 
+     * @param maxConcurrency Max number of Monos subscribed to concurrently
+     * @return Mono containing the values of the nested Monos
+     */
+    default Mono<ListX<A>> sequence(int maxConcurrency) {
+        final Iterable<Mono<A>> monos = () -> unwrap().stream()
+                                                      .iterator();
+        return Monos.sequence(monos, maxConcurrency);
+    }
+
+    /**
+     * Subscribe to the nested Monos, with at most maxConcurrency in flight at any one time, collecting their values
+     * (in order) into a single Mono. The time taken for each batch of maxConcurrency Monos to complete is reported in
+     * nanoseconds to the supplied consumer.
+     * 
+     * @param maxConcurrency Max number of Monos subscribed to concurrently
+     * @param batchLatency Consumer notified with the elapsed nanoseconds for each batch
+     * @return Mono containing the values of the nested Monos
+     */
+    default Mono<ListX<A>> sequence(int maxConcurrency, LongConsumer batchLatency) {
+        final Iterable<Mono<A>> monos = () -> unwrap().stream()
+                                                      .iterator();
+        return Monos.sequence(monos, maxConcurrency, batchLatency);
+    }
+
+    /**
+     * Apply the supplied asynchronous function to the value of each nested Mono, with at most maxConcurrency 
+     * executing at any one time, collecting the results (in order) into a single Mono
+     * 
+     * <pre>
+     * {@code 
+     *    MonoT.fromIterable(ListX.of(Mono.just(1),Mono.just(2)))
+     *         .traverse(id->Mono.fromFuture(client.load(id)),16);
+     *         
+     *    //Mono[ListX[data1,data2]]
+     * }
+     * </pre>
+     * 
+     * @param fn Function that starts an asynchronous call
+     * @param maxConcurrency Max number of calls in flight
+     * @return Mono containing the results
+     */
+    default <B> Mono<ListX<B>> traverse(Function<? super A, ? extends Mono<? extends B>> fn, int maxConcurrency) {
+        final Iterable<Mono<B>> monos = () -> unwrap().stream()
+                                                      .<Mono<B>> map(mono -> mono.then(fn))
+                                                      .iterator();
+        return Monos.sequence(monos, maxConcurrency);
+    }
+
+    /**
+     * Apply the supplied asynchronous function to the value of each nested Mono, with at most maxConcurrency 
+     * executing at any one time, collecting the results (in order) into a single Mono. The time taken for each batch of 
+     * maxConcurrency calls to complete is reported in nanoseconds to the supplied consumer.
+     * 
+     * @param fn Function that starts an asynchronous call
+     * @param maxConcurrency Max number of calls in flight
+     * @param batchLatency Consumer notified with the elapsed nanoseconds for each batch
+     * @return Mono containing the results
+     */
+    default <B> Mono<ListX<B>> traverse(Function<? super A, ? extends Mono<? extends B>> fn, int maxConcurrency,
+            LongConsumer batchLatency) {
+        final Iterable<Mono<B>> monos = () -> unwrap().stream()
+                                                      .<Mono<B>> map(mono -> mono.then(fn))
+                                                      .iterator();
+        return Monos.sequence(monos, maxConcurrency, batchLatency);
+    }
+
     /**
      * Peek at the current value of the Mono
      * <pre>
@@ -2,8 +2,10 @@ package com.aol.cyclops.control;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -12,6 +14,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -21,6 +24,8 @@ import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.junit.Test;
 import org.mockito.internal.util.collections.Sets;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import com.aol.cyclops.Matchables;
 import com.aol.cyclops.data.async.Queue;
@@ -30,7 +35,10 @@ import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.react.threads.SequentialElasticPools;
 import com.aol.cyclops.reactor.collections.extensions.standard.LazyListX;
 import com.aol.cyclops.reactor.flux.pushable.MultipleFluxSource;
+import com.aol.cyclops.reactor.flux.pushable.OverflowStrategy;
 import com.aol.cyclops.reactor.flux.pushable.PushableFlux;
+import com.aol.cyclops.reactor.flux.pushable.PushableMono;
+import com.aol.cyclops.reactor.flux.pushable.RingBufferFlux;
 import com.aol.cyclops.types.futurestream.LazyFutureStream;
 import com.aol.cyclops.util.ExceptionSoftener;
 import com.aol.cyclops.util.stream.pushable.PushableLazyFutureStream;
@@ -38,6 +46,8 @@ import com.aol.cyclops.util.stream.pushable.PushableReactiveSeq;
 import com.aol.cyclops.util.stream.pushable.PushableStream;
 import com.nurkiewicz.asyncretry.AsyncRetryExecutor;
 
+import reactor.core.scheduler.Schedulers;
+
 
 public class FluxSourceTest {
     @Test
@@ -304,4 +314,126 @@ public class FluxSourceTest {
         assertThat(pushable.getStream().collect(Collectors.toList()),
                 hasItem(100));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void singleProducerDemandSizedBatches() {
+        RingBufferFlux<Integer> flux = FluxSource.ofSingleProducer(10);
+        assertThat(flux.capacity(),is(16));
+        List<Integer> result = new ArrayList<>();
+        AtomicReference<Subscription> sub = new AtomicReference<>();
+        flux.subscribe(new Subscriber<Integer>() {
+            public void onSubscribe(Subscription s) { sub.set(s); }
+            public void onNext(Integer t) { result.add(t); }
+            public void onError(Throwable t) { }
+            public void onComplete() { result.add(-1); }
+        });
+        Integer[] batch = { 1, 2, 3, 4, 5 };
+        assertThat(flux.pushAll(batch, 1, 3),is(3));
+        assertThat(flux.push(5),is(true));
+        assertThat(result.size(),is(0));
+        sub.get().request(3);
+        assertThat(result,is(Arrays.asList(2, 3, 4)));
+        flux.complete();
+        sub.get().request(10);
+        assertThat(result,is(Arrays.asList(2, 3, 4, 5, -1)));
+        assertThat(flux.push(6),is(false));
+    }
+
+    @Test
+    public void singleProducerFull() {
+        RingBufferFlux<Integer> flux = FluxSource.ofSingleProducer(4);
+        Integer[] batch = { 1, 2, 3, 4, 5, 6 };
+        assertThat(flux.pushAll(batch, 0, 6),is(4));
+        assertThat(flux.push(7),is(false));
+        assertThat(flux.size(),is(4));
+        assertThat(flux.take(2).collectList().block(),is(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    public void singleProducerAcrossThreads() throws InterruptedException {
+        RingBufferFlux<Integer> flux = FluxSource.ofSingleProducer(64);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                while (!flux.push(i))
+                    Thread.yield();
+            }
+            flux.complete();
+        });
+        producer.start();
+        List<Integer> result = flux.publishOn(Schedulers.parallel())
+                                   .collectList()
+                                   .block();
+        producer.join();
+        assertThat(result.size(),is(100_000));
+        assertThat(result.get(99_999),is(99_999));
+    }
+
+    @Test
+    public void overflowDropOldest() {
+        PushableFlux<Integer> pushable = FluxSource.of(3, OverflowStrategy.DROP_OLDEST)
+                                                   .flux();
+        for (int i = 1; i <= 5; i++)
+            pushable.getInput().offer(i);
+        pushable.getInput().close();
+        assertThat(pushable.getFlux().collectList().block(),is(Arrays.asList(3, 4, 5)));
+        assertThat(pushable.dropped(),is(2l));
+        assertThat(pushable.coalesced(),is(0l));
+    }
+
+    @Test
+    public void overflowDropNewest() {
+        PushableFlux<Integer> pushable = FluxSource.of(3, OverflowStrategy.DROP_NEWEST)
+                                                   .flux();
+        for (int i = 1; i <= 5; i++)
+            assertThat(pushable.getInput().offer(i),is(true));
+        pushable.getInput().close();
+        assertThat(pushable.getFlux().collectList().block(),is(Arrays.asList(1, 2, 3)));
+        assertThat(pushable.dropped(),is(2l));
+    }
+
+    @Test
+    public void overflowKeepLatest() {
+        PushableFlux<Integer> pushable = FluxSource.of(2, OverflowStrategy.KEEP_LATEST)
+                                                   .flux();
+        for (int i = 1; i <= 5; i++)
+            pushable.getInput().offer(i);
+        pushable.getInput().close();
+        assertThat(pushable.getFlux().collectList().block(),is(Arrays.asList(1, 5)));
+        assertThat(pushable.coalesced(),is(3l));
+        assertThat(pushable.dropped(),is(0l));
+    }
+
+    @Test
+    public void overflowFailFast() {
+        PushableFlux<Integer> pushable = FluxSource.of(1, OverflowStrategy.FAIL_FAST)
+                                                   .flux();
+        pushable.getInput().offer(1);
+        try {
+            pushable.getInput().offer(2);
+            fail("expected overflow");
+        } catch (IllegalStateException e) {
+        }
+        pushable.getInput().close();
+        assertThat(pushable.getFlux().collectList().block(),is(Arrays.asList(1)));
+        assertThat(pushable.dropped(),is(1l));
+    }
+
+    @Test
+    public void monoKeepLatest() {
+        PushableMono<Integer> pushable = FluxSource.of(1, OverflowStrategy.KEEP_LATEST)
+                                                   .mono();
+        pushable.getInput().offer(1);
+        pushable.getInput().offer(2);
+        assertThat(pushable.getFlux().block(),is(2));
+        assertThat(pushable.coalesced(),is(1l));
+    }
+
+    @Test
+    public void blockingSourceHasNoOverflow() {
+        PushableFlux<Integer> pushable = FluxSource.of(10)
+                                                   .flux();
+        pushable.getInput().offer(1);
+        assertThat(pushable.dropped(),is(0l));
+        assertThat(pushable.coalesced(),is(0l));
+    }
+}
@@ -6,27 +6,41 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import com.aol.cyclops.data.async.Queue;
 import com.aol.cyclops.data.async.QueueFactories;
+import com.aol.cyclops.data.async.Topic;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.types.futurestream.LazyFutureStream;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 
 import lombok.val;
+import reactor.core.Cancellation;
+import reactor.core.Exceptions;
+import reactor.core.publisher.EmitterProcessor;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 public class ReactorPipesTest {
     ReactorPipes<String,String> pipes;
    
@@ -184,6 +198,225 @@ public class ReactorPipesTest {
         
     }
     
+    @Test
+    public void pushAll(){
+        Queue<String> q = new Queue<>();
+        pipes.register("hello", q);
+        assertThat(pipes.pushAll("hello", ListX.of("world","world2")),equalTo(2));
+        assertThat(pipes.pushAll("hello", "world3","world4"),equalTo(2));
+        assertThat(pipes.pushAll("absent", "world"),equalTo(0));
+        q.close();
+        assertThat(pipes.reactiveSeq("hello").get().toList(),equalTo(ListX.of("world","world2","world3","world4")));
+    }
+    @Test
+    public void pushBatch(){
+        Queue<String> q1 = new Queue<>();
+        Queue<String> q2 = new Queue<>();
+        pipes.register("one", q1);
+        pipes.register("two", q2);
+        HashMap<String,List<String>> batches = new HashMap<>();
+        batches.put("one", ListX.of("a","b"));
+        batches.put("two", ListX.of("c"));
+        batches.put("three", ListX.of("d"));
+        assertThat(pipes.pushBatch(batches),equalTo(3));
+        q1.close();
+        q2.close();
+        assertThat(pipes.reactiveSeq("one").get().toList(),equalTo(ListX.of("a","b")));
+        assertThat(pipes.reactiveSeq("two").get().toList(),equalTo(ListX.of("c")));
+    }
+    @Test
+    public void publishToRequestsInBatches(){
+        Queue<String> q = new Queue<>();
+        pipes.register("hello", q);
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        pipes.publishTo("hello", Flux.range(0,100).map(i->""+i).doOnRequest(requests::add), 10);
+        assertThat(requests.get(0),equalTo(10l));
+        assertTrue(requests.stream().allMatch(r->r<=10));
+        q.close();
+        assertThat(pipes.reactiveSeq("hello").get().count(),equalTo(100l));
+    }
+    @Test
+    public void publishToCancelledOnClose(){
+        Queue<String> q = new Queue<>();
+        pipes.register("hello", q);
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        EmitterProcessor<String> source = EmitterProcessor.create();
+        source.connect();
+        pipes.publishTo("hello", source.doOnCancel(()->cancelled.set(true)));
+        source.onNext("world");
+        assertFalse(cancelled.get());
+        pipes.close("hello");
+        assertTrue(cancelled.get());
+    }
+    @Test
+    public void publishToCancelledOnClear(){
+        pipes.register("hello", new Queue<>());
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        EmitterProcessor<String> source = EmitterProcessor.create();
+        source.connect();
+        pipes.publishTo("hello", source.doOnCancel(()->cancelled.set(true)));
+        source.onNext("world");
+        assertFalse(cancelled.get());
+        pipes.clear();
+        assertTrue(cancelled.get());
+        assertFalse(pipes.get("hello").isPresent());
+    }
+    @Test
+    public void metrics(){
+        Queue<String> q = new Queue<>();
+        pipes.register("hello", q);
+        for(int i=0;i<200;i++)
+            pipes.push("hello", "world"+i);
+        PipeMetrics.Snapshot before = pipes.metrics().get("hello");
+        assertThat(before.getOffered(),equalTo(200l));
+        assertThat(before.getAccepted(),equalTo(200l));
+        assertThat(before.getQueueDepth(),equalTo(200));
+        q.close();
+        assertThat(pipes.reactiveSeq("hello").get().count(),equalTo(200l));
+        PipeMetrics metrics = pipes.metrics("hello").get();
+        assertThat(metrics.queueDepth(),equalTo(0));
+        assertThat(metrics.subscribers(),equalTo(-1l));
+        assertTrue(metrics.latencyNanos(0.99)>0);
+        try{
+            pipes.push("hello", "closed");
+        }catch(Queue.ClosedQueueException e){
+
+        }
+        assertThat(metrics.rejected(),equalTo(1l));
+    }
+    @Test
+    public void topicSubscribers() throws InterruptedException{
+        Topic<String> topic = new Topic<>();
+        pipes.register("hello", topic);
+        PipeMetrics metrics = pipes.metrics("hello").get();
+        CountDownLatch received = new CountDownLatch(1);
+        Cancellation cancelled = pipes.flux("hello").get()
+                                      .subscribeOn(Schedulers.parallel())
+                                      .subscribe(v->received.countDown());
+        ReactiveSeq<String> completed = pipes.reactiveSeq("hello").get();
+        pipes.oneValue("hello");
+        assertThat(metrics.subscribers(),equalTo(2l));
+        pipes.push("hello", "world");
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        cancelled.dispose();
+        assertThat(metrics.subscribers(),equalTo(1l));
+        topic.close();
+        assertThat(completed.toList(),equalTo(Arrays.asList("world")));
+        assertThat(metrics.subscribers(),equalTo(0l));
+    }
+    @Test
+    public void reportMetrics() throws InterruptedException{
+        pipes.register("hello", new Topic<>());
+        pipes.push("hello", "world");
+        List<Long> reported = new CopyOnWriteArrayList<>();
+        Cancellation reporting = pipes.reportMetrics(m->reported.add(m.get("hello").getOffered()), Duration.ofMillis(10));
+        Thread.sleep(200);
+        reporting.dispose();
+        assertTrue(reported.size()>0);
+        assertThat(reported.get(0),equalTo(1l));
+        assertThat(pipes.metrics().get("hello").getQueueDepth(),equalTo(-1));
+    }
+    @Test
+    public void evictIdle() throws InterruptedException{
+        List<String> evicted = new CopyOnWriteArrayList<>();
+        pipes.expireAfterIdle(Duration.ofMillis(100))
+             .onEviction((k,a)->evicted.add(k));
+        Queue<String> idle = new Queue<>();
+        pipes.register("idle", idle);
+        pipes.register("active", new Queue<>());
+        assertThat(pipes.evictExpired(),equalTo(0));
+        for(int i=0;i<20;i++){
+            Thread.sleep(10);
+            pipes.push("active", "world");
+            pipes.evictExpired();
+        }
+        assertThat(evicted,equalTo(ListX.of("idle")));
+        assertFalse(idle.isOpen());
+        assertFalse(pipes.get("idle").isPresent());
+        assertTrue(pipes.get("active").isPresent());
+    }
+    @Test
+    public void evictAfterRegistration() throws InterruptedException{
+        pipes.expireAfterRegistration(Duration.ofMillis(20));
+        pipes.register("hello", new Queue<>());
+        Cancellation sweeper = pipes.sweepEvery(Duration.ofMillis(10));
+        Thread.sleep(300);
+        sweeper.dispose();
+        assertThat(pipes.size(),equalTo(0));
+    }
+    @Test
+    public void maximumPipes(){
+        List<String> evicted = new CopyOnWriteArrayList<>();
+        pipes.maximumPipes(2)
+             .onEviction((k,a)->evicted.add(k));
+        pipes.register("one", new Queue<>());
+        pipes.register("two", new Queue<>());
+        pipes.register("three", new Queue<>());
+        assertThat(pipes.size(),equalTo(2));
+        assertThat(evicted.size(),equalTo(1));
+        assertTrue(pipes.get("three").isPresent());
+    }
+    @Test
+    public void oneOrErrorAsyncNonBlocking(){
+        pipes.register("hello", new Queue<>());
+        AtomicReference<String> result = new AtomicReference<>();
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        pipes.oneOrErrorAsync("hello").subscribe(v->{ result.set(v); thread.set(Thread.currentThread()); });
+        assertThat(result.get(),equalTo(null));
+        pipes.push("hello", "world");
+        assertThat(result.get(),equalTo("world"));
+        assertThat(thread.get(),equalTo(Thread.currentThread()));
+        assertThat(pipes.metrics("hello").get().queueDepth(),equalTo(0));
+    }
+    @Test
+    public void oneOrErrorAsyncQueued(){
+        pipes.register("hello", new Queue<>());
+        pipes.push("hello", "world");
+        pipes.push("hello", "world2");
+        assertThat(pipes.oneOrErrorAsync("hello").block(),equalTo("world"));
+        assertThat(pipes.nextValueAsync("hello").block(),equalTo("world2"));
+    }
+    @Test
+    public void oneOrErrorAsyncErrors(){
+        try{
+            pipes.oneOrErrorAsync("absent").block();
+            fail("exception expected");
+        }catch(NoSuchElementException e){
+
+        }
+        pipes.register("hello", new Queue<>());
+        Mono<String> waiting = pipes.oneOrErrorAsync("hello").cache();
+        waiting.subscribe(v->{},e->{});
+        pipes.close("hello");
+        try{
+            waiting.block();
+            fail("exception expected");
+        }catch(NoSuchElementException e){
+
+        }
+    }
+    @Test
+    public void nextValueAsyncTimeout(){
+        pipes.register("hello", new Queue<>());
+        assertThat(pipes.nextValueAsync("hello", Duration.ofMillis(20)).block(),equalTo(null));
+        try{
+            pipes.oneOrErrorAsync("hello", Duration.ofMillis(20)).block();
+            fail("exception expected");
+        }catch(RuntimeException e){
+            assertThat(Exceptions.unwrap(e),instanceOf(TimeoutException.class));
+        }
+        pipes.push("hello", "world");
+        assertThat(pipes.nextValueAsync("hello", Duration.ofMillis(20)).block(),equalTo("world"));
+    }
+    @Test
+    public void nextValueAsyncTopic(){
+        pipes.register("hello", new Topic<>());
+        List<String> results = new CopyOnWriteArrayList<>();
+        pipes.nextValueAsync("hello").subscribe(results::add);
+        pipes.nextValueAsync("hello").subscribe(results::add);
+        pipes.push("hello", "world");
+        assertThat(results,equalTo(ListX.of("world","world")));
+    }
     @Test
     public void testGetAbsent() {
         
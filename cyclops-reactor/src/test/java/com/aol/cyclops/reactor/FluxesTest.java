@@ -1,15 +1,32 @@
 package com.aol.cyclops.reactor;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
+import com.aol.cyclops.Monoid;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.operators.ExternalSort;
 
+import reactor.core.Cancellation;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 public class FluxesTest {
     @Test
@@ -41,4 +58,235 @@ public class FluxesTest {
     public void groupedUntil(){
         Fluxes.groupedUntil(Flux.just(1,2,3,4,5,6),i->i%3!=0).subscribe(System.out::println);
     }
+    
+    @Test
+    public void materializingOperatorsMatchBlockingImplementations(){
+        List<Function<Flux<Integer>,Flux<?>>> ops = Arrays.asList(f->Fluxes.reverse(f),
+                                                                  f->Fluxes.sorted(f),
+                                                                  f->Fluxes.sorted(f,Comparator.reverseOrder()),
+                                                                  f->Fluxes.sorted(f,i->-i),
+                                                                  f->Fluxes.scanRight(f,0,(a,b)->a+b),
+                                                                  f->Fluxes.scanRight(f,Monoid.of(0,(a,b)->a+b)),
+                                                                  f->Fluxes.sliding(f,3,2),
+                                                                  f->Fluxes.sliding(f,2,1),
+                                                                  f->Fluxes.sliding(f,2,3),
+                                                                  f->Fluxes.sliding(f,10,1),
+                                                                  f->Fluxes.grouped(f,3),
+                                                                  f->Fluxes.removeAll(f,Arrays.asList(2,5)),
+                                                                  f->Fluxes.retainAll(f,Arrays.asList(2,5)),
+                                                                  f->Fluxes.groupedStatefullyUntil(f,(s,i)->s.contains(4)),
+                                                                  f->Fluxes.groupedStatefullyUntil(f,(s,i)->s.size()>=2));
+        for(Flux<Integer> flux : Arrays.asList(Flux.just(5,1,4,2,6,3,2),Flux.<Integer>empty(),Flux.just(1))){
+            for(Function<Flux<Integer>,Flux<?>> op : ops){
+                Fluxes.useBlockingOperators(true);
+                List<?> blocking = op.apply(flux).collectList().block();
+                Fluxes.useBlockingOperators(false);
+                List<?> nonBlocking = op.apply(flux).collectList().block();
+                assertThat(nonBlocking.toString(),equalTo(blocking.toString()));
+            }
+        }
+    }
+    @Test
+    public void shuffleRetainsElements(){
+        assertThat(Fluxes.sorted(Fluxes.shuffle(Flux.range(1,100))).collectList().block(),
+                   equalTo(Flux.range(1,100).collectList().block()));
+    }
+    @Test(timeout=5000)
+    public void materializingOperatorsDontBlockOnSubscribe(){
+        Cancellation reverse = Fluxes.reverse(Flux.<Integer>never()).subscribe();
+        Cancellation sorted = Fluxes.sorted(Flux.<Integer>never()).subscribe();
+        Cancellation sliding = Fluxes.sliding(Flux.<Integer>never(),2,1).subscribe();
+        reverse.dispose();
+        sorted.dispose();
+        sliding.dispose();
+    }
+    @Test
+    public void materializingOperatorsOnScheduler(){
+        assertThat(Fluxes.reverse(Flux.range(1,1000).publishOn(Schedulers.parallel()))
+                         .take(3)
+                         .collectList()
+                         .block(),equalTo(Arrays.asList(1000,999,998)));
+    }
+    @Test
+    public void groupedWhileSubscribesLazily(){
+        AtomicBoolean subscribed = new AtomicBoolean(false);
+        Flux<ListX<Integer>> grouped = Fluxes.groupedWhile(Flux.just(1,2,3,4,5,6).doOnSubscribe(s->subscribed.set(true)),i->i%3!=0);
+        assertThat(subscribed.get(),is(false));
+        assertThat(grouped.collectList().block(),equalTo(ListX.of(ListX.of(1,2,3),ListX.of(4,5,6))));
+        assertThat(subscribed.get(),is(true));
+        assertThat(grouped.collectList().block(),equalTo(ListX.of(ListX.of(1,2,3),ListX.of(4,5,6))));
+    }
+    @Test
+    public void groupedWhileEmitsTrailingBatch(){
+        assertThat(Fluxes.groupedWhile(Flux.just(1,2,3,4),i->i%3!=0,()->new TreeSet<>()).collectList().block().toString(),
+                   equalTo("[[1, 2, 3], [4]]"));
+        assertThat(Fluxes.groupedWhile(Flux.<Integer>empty(),i->i%3!=0).collectList().block().size(),
+                   equalTo(0));
+    }
+    @Test
+    public void groupedBySizeSubscribesLazily(){
+        AtomicBoolean subscribed = new AtomicBoolean(false);
+        Flux<TreeSet<Integer>> grouped = Fluxes.grouped(Flux.just(1,2,3,1,1,1,5).doOnSubscribe(s->subscribed.set(true)),3,()->new TreeSet<>());
+        assertThat(subscribed.get(),is(false));
+        assertThat(grouped.collectList().block().toString(),equalTo("[[1, 2, 3], [1], [5]]"));
+        assertThat(subscribed.get(),is(true));
+    }
+    @Test
+    public void groupedBySizeEmitsEachBatchWhenComplete(){
+        assertThat(Fluxes.grouped(Flux.range(1,Integer.MAX_VALUE),2,()->ListX.<Integer>empty()).take(2).collectList().block(),
+                   equalTo(ListX.of(ListX.of(1,2),ListX.of(3,4))));
+    }
+    @Test
+    public void groupedBySizeRequestsInProportionToDemand(){
+        AtomicLong requested = new AtomicLong(0);
+        List<TreeSet<Integer>> received = ListX.of();
+        Fluxes.grouped(Flux.range(1,100).doOnRequest(requested::addAndGet),3,()->new TreeSet<Integer>())
+              .subscribe(new Subscriber<TreeSet<Integer>>() {
+                  @Override
+                  public void onSubscribe(Subscription s) {
+                      s.request(2);
+                  }
+                  @Override
+                  public void onNext(TreeSet<Integer> t) {
+                      received.add(t);
+                  }
+                  @Override
+                  public void onError(Throwable t) {
+                  }
+                  @Override
+                  public void onComplete() {
+                  }
+              });
+        assertThat(requested.get(),equalTo(6l));
+        assertThat(received.toString(),equalTo("[[1, 2, 3], [4, 5, 6]]"));
+    }
+    @Test
+    public void topKMatchesSortedTake(){
+        List<Tuple2<Integer,String>> data = ListX.of(Tuple.tuple(3,"a"),Tuple.tuple(1,"b"),Tuple.tuple(3,"c"),
+                                                     Tuple.tuple(2,"d"),Tuple.tuple(1,"e"),Tuple.tuple(3,"f"));
+        Comparator<Tuple2<Integer,String>> byKey = Comparator.comparing(t->t.v1);
+        for(long k=0;k<8;k++){
+            assertThat(Fluxes.topK(Flux.fromIterable(data),k,byKey).collectList().block(),
+                       equalTo(Fluxes.sorted(Flux.fromIterable(data),byKey).take(k).collectList().block()));
+        }
+    }
+    @Test
+    public void limitOfSortedFluxUsesTopK(){
+        Flux<Integer> sorted = Fluxes.sorted(Flux.just(5,1,4,2,6,3),Comparator.reverseOrder());
+        assertThat(Fluxes.limit(sorted,3).collectList().block(),equalTo(Arrays.asList(6,5,4)));
+        assertThat(Fluxes.limit(sorted,0).collectList().block().size(),equalTo(0));
+        assertThat(Fluxes.limit(sorted,100).collectList().block(),equalTo(Arrays.asList(6,5,4,3,2,1)));
+        assertThat(Fluxes.limit(Flux.just(5,1,4),2).collectList().block(),equalTo(Arrays.asList(5,1)));
+    }
+    @Test
+    public void externalSortMatchesInMemorySort(){
+        List<Integer> data = ListX.fromIterable(new Random(11).ints(1000,0,100).boxed().collect(Collectors.toList()));
+        ExternalSort<Integer> external = ExternalSort.of(64, ExternalSort.javaSerializer());
+        assertThat(Fluxes.sorted(Flux.fromIterable(data),Comparator.reverseOrder(),external).collectList().block(),
+                   equalTo(Fluxes.sorted(Flux.fromIterable(data),Comparator.reverseOrder()).collectList().block()));
+        assertThat(external.runsSpilled(),equalTo(16l));
+        assertThat(external.bytesSpilled()>0,is(true));
+    }
+    @Test
+    public void externalSortIsStable(){
+        ExternalSort<Tuple2<Integer,String>> external = ExternalSort.of(2, ExternalSort.javaSerializer());
+        Flux<Tuple2<Integer,String>> flux = Flux.just(Tuple.tuple(2,"a"),Tuple.tuple(1,"b"),Tuple.tuple(2,"c"),
+                                                     Tuple.tuple(1,"d"),Tuple.tuple(2,"e"));
+        assertThat(Fluxes.sorted(flux,Comparator.comparing(t->t.v1),external).map(t->t.v2).collectList().block(),
+                   equalTo(Arrays.asList("b","d","a","c","e")));
+    }
+    @Test
+    public void externalSortOfSingleRunDoesntSpill(){
+        ExternalSort<Integer> external = ExternalSort.of(10, ExternalSort.javaSerializer());
+        assertThat(Fluxes.sorted(Flux.just(3,1,2),Comparator.naturalOrder(),external).collectList().block(),
+                   equalTo(Arrays.asList(1,2,3)));
+        assertThat(Fluxes.sorted(Flux.<Integer>empty(),Comparator.naturalOrder(),external).collectList().block().size(),
+                   equalTo(0));
+        assertThat(external.runsSpilled(),equalTo(0l));
+    }
+    @Test
+    public void externalSortMergesLazily(){
+        ExternalSort<Integer> external = ExternalSort.of(100, ExternalSort.javaSerializer());
+        assertThat(Fluxes.sorted(Flux.range(0,1000).map(i->1000-i),Comparator.naturalOrder(),external)
+                         .take(3)
+                         .collectList()
+                         .block(),equalTo(Arrays.asList(1,2,3)));
+        assertThat(external.runsSpilled(),equalTo(10l));
+    }
+    @Test
+    public void mapAndFilterIndexed(){
+        assertThat(Fluxes.mapIndexed(Flux.just("a","b","c"),(s,index)->s+index).collectList().block(),
+                   equalTo(Arrays.asList("a0","b1","c2")));
+        assertThat(Fluxes.filterIndexed(Flux.just("a","b","c","d"),(s,index)->index%2==0).collectList().block(),
+                   equalTo(Arrays.asList("a","c")));
+    }
+    @Test
+    public void filterIndexedReplacesDemandForDroppedElements(){
+        assertThat(Fluxes.filterIndexed(Flux.range(0,100),(i,index)->index>=50).take(3).collectList().block(),
+                   equalTo(Arrays.asList(50,51,52)));
+    }
+    @Test
+    public void deleteBetweenAndSlice(){
+        assertThat(Fluxes.deleteBetween(Flux.just(1,2,3,4,5,6),2,4).collectList().block(),
+                   equalTo(Arrays.asList(1,2,5,6)));
+        assertThat(Fluxes.sliceByIndex(Flux.just(1,2,3,4,5,6),2,4).collectList().block(),
+                   equalTo(Arrays.asList(3,4)));
+        assertThat(Fluxes.sliceByIndex(Flux.just(1,2,3),2,10).collectList().block(),
+                   equalTo(Arrays.asList(3)));
+    }
+    @Test
+    public void insertAtSubscribesOnce(){
+        AtomicLong subscriptions = new AtomicLong(0);
+        Flux<Integer> flux = Flux.just(1,2,3).doOnSubscribe(s->subscriptions.incrementAndGet());
+        assertThat(Fluxes.insertAt(flux,1,100,200,300).collectList().block(),
+                   equalTo(Arrays.asList(1,100,200,300,2,3)));
+        assertThat(subscriptions.get(),equalTo(1l));
+        assertThat(Fluxes.insertAt(flux,0,100).collectList().block(),
+                   equalTo(Arrays.asList(100,1,2,3)));
+        assertThat(Fluxes.insertAt(flux,3,100).collectList().block(),
+                   equalTo(Arrays.asList(1,2,3,100)));
+        assertThat(Fluxes.insertAt(flux,10,100).collectList().block(),
+                   equalTo(Arrays.asList(1,2,3,100)));
+        assertThat(Fluxes.insertAt(Flux.<Integer>empty(),0,100,200).collectList().block(),
+                   equalTo(Arrays.asList(100,200)));
+    }
+    @Test
+    public void insertAtHonoursDemand(){
+        AtomicLong requested = new AtomicLong(0);
+        List<Integer> received = ListX.of();
+        Subscription[] subscription = new Subscription[1];
+        Fluxes.insertAt(Flux.range(1,10).doOnRequest(requested::addAndGet),2,100,200)
+              .subscribe(new Subscriber<Integer>() {
+                  @Override
+                  public void onSubscribe(Subscription s) {
+                      subscription[0]=s;
+                      s.request(3);
+                  }
+                  @Override
+                  public void onNext(Integer t) {
+                      received.add(t);
+                  }
+                  @Override
+                  public void onError(Throwable t) {
+                  }
+                  @Override
+                  public void onComplete() {
+                  }
+              });
+        assertThat(received,equalTo(Arrays.asList(1,2,100)));
+        assertThat(requested.get(),equalTo(2l));
+        subscription[0].request(3);
+        assertThat(received,equalTo(Arrays.asList(1,2,100,200,3,4)));
+        assertThat(requested.get(),equalTo(4l));
+    }
+    @Test
+    public void insertAtOnScheduler(){
+        for(int i=0;i<100;i++){
+            assertThat(Fluxes.insertAt(Flux.range(1,1000).publishOn(Schedulers.parallel()),500,-1,-2)
+                             .publishOn(Schedulers.parallel())
+                             .collectList()
+                             .block()
+                             .size(),equalTo(1002));
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.aol.cyclops.reactor;
 import static com.aol.cyclops.control.Streamable.fromStream;
 import static java.util.stream.Stream.concat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
@@ -15,11 +16,13 @@ import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
 import org.junit.Test;
 
+import com.aol.cyclops.control.AnyM;
 import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.data.collections.extensions.standard.SetX;
 import com.aol.cyclops.reactor.transformer.FluxT;
+import com.aol.cyclops.reactor.transformer.FluxTSeq;
 import com.aol.cyclops.reactor.transformer.MonoT;
 
 import reactor.core.publisher.Flux;
@@ -129,6 +132,43 @@ public class ReactorTest {
                    equalTo(ListX.of(1, 2, 3, 10, 20, 30)));
     }
 
+    @Test
+    public void fluxTNestedOperators() {
+        FluxTSeq<Integer> fluxT = FluxT.fromPublisher(Flux.just(Flux.just(1, 2, 3), Flux.just(10, 20, 30)))
+                                       .map(i -> i * 2)
+                                       .filter(i -> i > 2)
+                                       .flatMap(i -> Flux.just(i, -i));
+        assertThat(fluxT.flux()
+                        .collectList()
+                        .block(),
+                   equalTo(Arrays.asList(4, -4, 6, -6, 20, -20, 40, -40, 60, -60)));
+        assertThat(fluxT.unwrap()
+                        .unwrap(),
+                   instanceOf(ReactiveSeq.class));
+    }
+
+    @Test
+    public void fluxTOfPublisherAnyM() {
+        FluxTSeq<Integer> fluxT = FluxTSeq.of(AnyM.fromPublisher(Flux.just(Flux.just(1, 2), Flux.just(10))))
+                                          .map(i -> i * 2);
+        assertThat(fluxT.flux()
+                        .collectList()
+                        .block(),
+                   equalTo(Arrays.asList(2, 4, 20)));
+    }
+
+    @Test
+    public void fluxTIterableNestedOperators() {
+        FluxTSeq<String> fluxT = FluxT.fromIterable(ListX.of(Flux.just(1, 2), Flux.<Integer> empty()))
+                                      .map(i -> "" + i);
+        assertThat(fluxT.isSeqPresent(), equalTo(true));
+        assertThat(fluxT.unwrap()
+                        .toListX()
+                        .size(),
+                   equalTo(2));
+        assertThat(fluxT.toListX(), equalTo(ListX.of("1", "2")));
+    }
+
     @Test
     public void monoT() {
 
@@ -4,6 +4,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -14,10 +15,14 @@ import org.junit.Test;
 import com.aol.cyclops.data.collections.extensions.FluentCollectionX;
 import com.aol.cyclops.data.collections.extensions.persistent.PBagX;
 import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.reactor.collections.extensions.AbstractOrderDependentCollectionXTest;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX;
+import com.aol.cyclops.reactor.collections.extensions.base.MaterializationStats;
+import com.aol.cyclops.reactor.collections.extensions.base.Materializer;
 
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 public class LazyPVectorXTest extends AbstractOrderDependentCollectionXTest  {
 
@@ -32,6 +37,66 @@ public class LazyPVectorXTest extends AbstractOrderDependentCollectionXTest  {
 
     }
 
+    @Test
+    public void materializedStagesFuse() {
+        LazyPVectorX<Integer> vector = LazyPVectorX.of(1, 2, 3, 4, 5);
+        vector.size();
+        assertThat(vector.map(i -> i * 10)
+                         .filter(i -> i > 10)
+                         .limit(2),
+                   equalTo(PVectorX.of(20, 30)));
+    }
+
+    @Test
+    public void parallelMaterialization() {
+        assertThat(LazyPVectorX.fromIterable(ListX.range(0, 1000))
+                               .parallel(4)
+                               .map(i -> i * 10),
+                   equalTo(PVectorX.fromIterable(ListX.range(0, 1000)
+                                                      .map(i -> i * 10))));
+    }
+
+    @Test
+    public void materializeAsync() {
+        LazyPVectorX<Integer> vector = LazyPVectorX.fromPublisher(Flux.just(1, 2, 3))
+                                                   .map(i -> i * 10);
+        assertThat(vector.materializeAsync()
+                         .block(),
+                   equalTo(PVectorX.of(10, 20, 30)));
+        assertThat(vector.materializeOn(Schedulers.single())
+                         .block(),
+                   equalTo(PVectorX.of(10, 20, 30)));
+    }
+
+    @Test
+    public void materializationListener() {
+        MaterializationStats stats = new MaterializationStats();
+        Materializer.setListener(stats);
+        try {
+            LazyPVectorX.fromPublisher(Flux.just(1, 2, 3))
+                        .map(i -> i * 10)
+                        .size();
+        } finally {
+            Materializer.setListener(null);
+        }
+        assertThat(stats.completed(), equalTo(1l));
+        assertThat(stats.elements(), equalTo(3l));
+        assertThat(stats.countsByType()
+                        .size(),
+                   equalTo(1));
+    }
+
+    @Test
+    public void share() {
+        AtomicInteger subscriptions = new AtomicInteger(0);
+        LazyPVectorX<Integer> base = LazyPVectorX.fromPublisher(Flux.just(1, 2, 3)
+                                                                   .doOnSubscribe(s -> subscriptions.incrementAndGet()))
+                                                 .share();
+        assertThat(base.map(i -> i * 10), equalTo(PVectorX.of(10, 20, 30)));
+        assertThat(base.filter(i -> i > 1), equalTo(PVectorX.of(2, 3)));
+        assertThat(subscriptions.get(), equalTo(1));
+    }
+
     @Test
     public void onEmptySwitch() {
         assertThat(LazyPVectorX.empty()
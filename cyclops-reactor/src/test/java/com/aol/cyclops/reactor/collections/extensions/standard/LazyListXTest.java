@@ -1,14 +1,38 @@
 package com.aol.cyclops.reactor.collections.extensions.standard;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
 
 import com.aol.cyclops.control.LazyReact;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.data.collections.extensions.standard.SetX;
+import com.aol.cyclops.reactor.collections.extensions.base.MaterializationEvent;
+import com.aol.cyclops.reactor.collections.extensions.base.MaterializationListener;
+import com.aol.cyclops.reactor.collections.extensions.base.MaterializationStats;
+import com.aol.cyclops.reactor.collections.extensions.base.Materializer;
+import com.aol.cyclops.reactor.operators.FusedFlux;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 public class LazyListXTest {
 
@@ -51,4 +75,291 @@ public class LazyListXTest {
             System.out.println("------------------------------");
         }
     }
+    @Test
+    public void waitingThreadsShareMaterializedResult(){
+        AtomicInteger materializations = new AtomicInteger(0);
+        LazyListX<Integer> list = LazyListX.of(1, 2, 3)
+                                           .peek(i->sleep(100))
+                                           .map(i -> i * 2)
+                                           .peek(i->materializations.incrementAndGet());
+        long waits = Materializer.waitCount();
+        List<CompletableFuture<Integer>> sizes = ListX.range(0,5)
+                                                      .map(i->CompletableFuture.supplyAsync(()->list.size()));
+        sizes.forEach(f->assertThat(f.join(),equalTo(3)));
+        assertThat(materializations.get(),equalTo(3));
+        assertThat(list,equalTo(Arrays.asList(2,4,6)));
+        assertThat(Materializer.waitCount(),greaterThan(waits));
+    }
+    @Test
+    public void waitingThreadsReceiveMaterializationError(){
+        LazyListX<Integer> list = LazyListX.of(1, 2, 3)
+                                           .peek(i->sleep(100))
+                                           .map(i -> { if(i==3) throw new IllegalStateException("boom"); return i;});
+        List<CompletableFuture<Integer>> sizes = ListX.range(0,5)
+                                                      .map(i->CompletableFuture.supplyAsync(()->list.size()));
+        sizes.forEach(f->{
+            try{
+                f.join();
+                fail("error expected");
+            }catch(Exception e){
+                assertThat(e.getCause().getMessage(),equalTo("boom"));
+            }
+        });
+    }
+    @Test
+    public void sortedLimit(){
+        LazyListX<Integer> ll = LazyListX.of(5,1,4,2,6,3);
+        assertThat(ll.sorted().limit(3),equalTo(ListX.of(1,2,3)));
+        assertThat(ll.sorted(Comparator.reverseOrder()).limit(2),equalTo(ListX.of(6,5)));
+        assertThat(ll.topK(4,Comparator.naturalOrder()),equalTo(ListX.of(1,2,3,4)));
+    }
+    @Test
+    public void materializedStagesFuse(){
+        LazyListX<Integer> ll = LazyListX.of(1,2,3,4,5,6,7,8,9,10);
+        ll.size();
+        AtomicInteger mapped = new AtomicInteger(0);
+        LazyListX<String> fused = ll.map(i->{mapped.incrementAndGet(); return i*2;})
+                                    .filter(i->i%3!=0)
+                                    .limit(3)
+                                    .map(i->"x"+i);
+        assertThat(fused.flux(),instanceOf(FusedFlux.class));
+        assertThat(fused,equalTo(ListX.of("x2","x4","x8")));
+        assertThat(mapped.get(),equalTo(4));
+        assertThat(fused.flux().collectList().block(),equalTo(ListX.of("x2","x4","x8")));
+        assertThat(ll.limit(0).size(),equalTo(0));
+    }
+    @Test
+    public void unmaterializedStagesDontFuse(){
+        LazyListX<Integer> ll = LazyListX.fromPublisher(Flux.just(1,2,3));
+        assertThat(ll.map(i->i*2).flux(),not(instanceOf(FusedFlux.class)));
+        assertThat(ll.map(i->i*2).filter(i->i>2),equalTo(ListX.of(4,6)));
+    }
+    @Test
+    public void parallelMaterializationRetainsOrder(){
+        Set<String> threads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        LazyListX<Integer> ll = LazyListX.range(0,10_000)
+                                         .parallel(4)
+                                         .map(i->{threads.add(Thread.currentThread().getName()); return i*2;})
+                                         .filter(i->i%3==0);
+        assertThat(ll,equalTo(LazyListX.range(0,10_000).map(i->i*2).filter(i->i%3==0).toListX()));
+        assertThat(threads.contains(Thread.currentThread().getName()),equalTo(false));
+    }
+    @Test
+    public void parallelMaterializationOnScheduler(){
+        assertThat(LazyListX.of(1,2,3,4,5).parallel(Schedulers.parallel()).map(i->i+1).limit(3),
+                   equalTo(ListX.of(2,3,4)));
+        assertThat(LazySetX.of(1,2,3,4,5).parallel(3).map(i->i%2),equalTo(SetX.of(0,1)));
+    }
+    @Test
+    public void materializeAsync(){
+        AtomicInteger mapped = new AtomicInteger(0);
+        LazyListX<Integer> ll = LazyListX.fromPublisher(Flux.range(1,3).delayMillis(10))
+                                         .map(i->{mapped.incrementAndGet(); return i*2;});
+        Mono<LazyListX<Integer>> async = ll.materializeAsync();
+        assertThat(mapped.get(),equalTo(0));
+        assertThat(async.block(),equalTo(ListX.of(2,4,6)));
+        assertThat(ll.flux(),instanceOf(FusedFlux.class));
+        assertThat(ll.get(0),equalTo(2));
+        assertThat(ll.materializeAsync().block(),equalTo(ListX.of(2,4,6)));
+        assertThat(mapped.get(),equalTo(3));
+    }
+    @Test
+    public void parallelMaterializeAsyncDoesNotBlock(){
+        LazyListX<Integer> ll = LazyListX.fromPublisher(Flux.range(1,4).delayMillis(100))
+                                         .parallel(2)
+                                         .map(i->i*2);
+        CompletableFuture<LazyListX<Integer>> async = ll.materializeAsync().toFuture();
+        assertThat(async.isDone(),equalTo(false));
+        assertThat(async.join(),equalTo(ListX.of(2,4,6,8)));
+    }
+    @Test
+    public void sharedMaterializeAsyncDoesNotBlock(){
+        LazyListX<Integer> shared = LazyListX.fromPublisher(Flux.range(1,4).delayMillis(100))
+                                             .share();
+        CompletableFuture<LazyListX<Integer>> async = shared.map(i->i*2).materializeAsync().toFuture();
+        assertThat(async.isDone(),equalTo(false));
+        assertThat(async.join(),equalTo(ListX.of(2,4,6,8)));
+        assertThat(shared.filter(i->i>2).materializeAsync().block(),equalTo(ListX.of(3,4)));
+    }
+    @Test
+    public void materializeOnScheduler() throws Exception{
+        String caller = Thread.currentThread().getName();
+        AtomicReference<String> materializedOn = new AtomicReference<>();
+        LazyListX<Integer> ll = LazyListX.of(1,2,3)
+                                         .map(i->{materializedOn.set(Thread.currentThread().getName()); return i+1;})
+                                         .filter(i->i>2);
+        assertThat(ll.materializeOn(Schedulers.single()).block(),equalTo(ListX.of(3,4)));
+        assertThat(materializedOn.get(),not(equalTo(caller)));
+        assertThat(LazyListX.of(1,2).materializeFuture().get(),equalTo(ListX.of(1,2)));
+    }
+    @Test
+    public void materializeFutureError() throws Exception{
+        LazyListX<Integer> ll = LazyListX.fromPublisher(Flux.<Integer>error(new IllegalStateException("boom")));
+        CompletableFuture<LazyListX<Integer>> future = ll.materializeFuture();
+        assertThat(future.isCompletedExceptionally(),equalTo(true));
+        try{
+            ll.size();
+            fail("error expected");
+        }catch(IllegalStateException e){
+            assertThat(e.getMessage(),equalTo("boom"));
+        }
+    }
+    @Test
+    public void incrementalPullsPrefixOnly(){
+        AtomicLong requested = new AtomicLong(0);
+        AtomicInteger subscriptions = new AtomicInteger(0);
+        LazyListX<Integer> ll = LazyListX.fromPublisher(Flux.range(0,1000)
+                                                            .doOnSubscribe(s->subscriptions.incrementAndGet())
+                                                            .doOnRequest(requested::addAndGet))
+                                         .incremental();
+        assertThat(ll.isEmpty(),equalTo(false));
+        assertThat(requested.get(),equalTo(1l));
+        assertThat(ll.get(4),equalTo(4));
+        assertThat(requested.get(),equalTo(5l));
+        assertThat(ll.subList(10,20),equalTo(ListX.range(10,20)));
+        assertThat(requested.get(),equalTo(20l));
+        assertThat(ll.get(0),equalTo(0));
+        assertThat(requested.get(),equalTo(20l));
+        assertThat(ll.size(),equalTo(1000));
+        assertThat(ll.get(999),equalTo(999));
+        assertThat(subscriptions.get(),equalTo(1));
+    }
+    @Test
+    public void incrementalIterator(){
+        AtomicLong requested = new AtomicLong(0);
+        LazyListX<Integer> ll = LazyListX.fromPublisher(Flux.range(0,1000).doOnRequest(requested::addAndGet))
+                                         .incremental();
+        Iterator<Integer> it = ll.iterator();
+        assertThat(it.next(),equalTo(0));
+        assertThat(it.next(),equalTo(1));
+        assertThat(requested.get(),equalTo(2l));
+        assertThat(ll.map(i->i*2).limit(3),equalTo(ListX.of(0,2,4)));
+        assertThat(LazyListX.fromPublisher(Flux.<Integer>empty()).incremental().isEmpty(),equalTo(true));
+    }
+    @Test
+    public void incrementalAsyncSource(){
+        LazyListX<Integer> ll = LazyListX.fromPublisher(Flux.range(0,100).publishOn(Schedulers.parallel()))
+                                         .incremental();
+        assertThat(ll.get(50),equalTo(50));
+        assertThat(ll,equalTo(ListX.range(0,100)));
+    }
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void incrementalIndexOutOfBounds(){
+        LazyListX.fromPublisher(Flux.range(0,10)).incremental().get(10);
+    }
+    @Test
+    public void primitiveIntList(){
+        AtomicInteger count = new AtomicInteger(0);
+        LazyIntListX ints = LazyIntListX.range(0,10)
+                                        .map(i->{count.incrementAndGet(); return i*2;})
+                                        .filter(i->i%3==0);
+        assertThat(count.get(),equalTo(0));
+        assertThat(ints.sum(),equalTo(0+6+12+18));
+        assertThat(ints.size(),equalTo(4));
+        assertThat(ints.getInt(3),equalTo(18));
+        assertThat(ints.sum(),equalTo(36));
+        assertThat(count.get(),equalTo(20));
+        assertThat(ints.toListX(),equalTo(ListX.of(0,6,12,18)));
+        assertThat(ints.boxed().map(i->i+1),equalTo(ListX.of(1,7,13,19)));
+        assertThat(ints.mapToLong(i->i*1_000_000_000l).getLong(1),equalTo(6_000_000_000l));
+        assertThat(ints,equalTo(LazyIntListX.of(0,6,12,18)));
+    }
+    @Test
+    public void primitiveLongList(){
+        LazyLongListX longs = LazyLongListX.range(0,100).skip(90).limit(5);
+        assertThat(longs.reduce(1,(a,b)->a+b),equalTo(461l));
+        assertThat(longs.toArray().length,equalTo(5));
+        assertThat(longs.toListX(),equalTo(ListX.of(90l,91l,92l,93l,94l)));
+        assertThat(longs.mapToInt(l->(int)l-90).toListX(),equalTo(ListX.of(0,1,2,3,4)));
+        assertThat(LazyLongListX.empty().isEmpty(),equalTo(true));
+    }
+    @Test
+    public void primitiveListFromStreamConsumedOnce(){
+        LazyIntListX ints = LazyIntListX.fromIntStream(java.util.stream.IntStream.of(1,2,3));
+        assertThat(ints.map(i->i*2).sum(),equalTo(12));
+        assertThat(ints.filter(i->i>1).size(),equalTo(2));
+        assertThat(ints.sum(),equalTo(6));
+    }
+    @Test
+    public void materializationListener(){
+        MaterializationStats stats = new MaterializationStats();
+        List<MaterializationEvent> events = new java.util.concurrent.CopyOnWriteArrayList<>();
+        Materializer.setListener(new MaterializationListener(){
+            @Override
+            public void onStart(MaterializationEvent event) {
+                stats.onStart(event);
+            }
+            @Override
+            public void onComplete(MaterializationEvent event) {
+                stats.onComplete(event);
+                events.add(event);
+            }
+        });
+        try{
+            LazyListX<Integer> ll = LazyListX.fromPublisher(Flux.range(0,10)).map(i->i*2);
+            assertThat(ll.size(),equalTo(10));
+            assertThat(ll.size(),equalTo(10));
+            assertThat(stats.started(),equalTo(1l));
+            assertThat(stats.completed(),equalTo(1l));
+            assertThat(stats.elements(),equalTo(10l));
+            assertThat(events.get(0).getThread(),equalTo(Thread.currentThread()));
+            assertThat(events.get(0).getOperators(),equalTo(Arrays.asList("FluxRange","FluxMapFuseable")));
+            assertThat(stats.percentileNanos(1.0),greaterThan(events.get(0).getElapsedNanos()-1));
+
+            LazyListX<Integer> failing = LazyListX.fromPublisher(Flux.<Integer>error(new IllegalStateException()));
+            try{
+                failing.size();
+                fail("exception expected");
+            }catch(IllegalStateException e){
+
+            }
+            assertThat(stats.failed(),equalTo(1l));
+            assertThat(events.get(1).getError().get(),instanceOf(IllegalStateException.class));
+
+            assertThat(LazyListX.of(1,2,3).map(i->i+1).materializeAsync().block().size(),equalTo(3));
+            assertThat(stats.async(),equalTo(1l));
+        }finally{
+            Materializer.setListener(null);
+        }
+        LazyListX.of(1,2,3).map(i->i+1).size();
+        assertThat(stats.started(),equalTo(3l));
+    }
+    @Test
+    public void shareMaterializesOnce(){
+        AtomicInteger subscriptions = new AtomicInteger(0);
+        AtomicInteger mapped = new AtomicInteger(0);
+        LazyListX<Integer> base = LazyListX.fromPublisher(Flux.range(0,10).doOnSubscribe(s->subscriptions.incrementAndGet()))
+                                           .map(i->{mapped.incrementAndGet(); return i*2;})
+                                           .share();
+        LazyListX<Integer> filtered = base.filter(i->i>10);
+        LazyListX<Integer> mappedAgain = base.map(i->i+1);
+        LazyListX<ListX<Integer>> grouped = base.grouped(5);
+        long reused = Materializer.reuseCount();
+        assertThat(filtered,equalTo(ListX.of(12,14,16,18)));
+        assertThat(mappedAgain.size(),equalTo(10));
+        assertThat(grouped.size(),equalTo(2));
+        assertThat(base.size(),equalTo(10));
+        assertThat(subscriptions.get(),equalTo(1));
+        assertThat(mapped.get(),equalTo(10));
+        assertThat(Materializer.reuseCount()-reused,equalTo(3l));
+    }
+    @Test
+    public void cacheMulticasts(){
+        AtomicInteger subscriptions = new AtomicInteger(0);
+        LazyListX<Integer> base = LazyListX.fromPublisher(Flux.range(0,10).doOnSubscribe(s->subscriptions.incrementAndGet()))
+                                           .cache();
+        long reused = Materializer.reuseCount();
+        assertThat(base.filter(i->i>7),equalTo(ListX.of(8,9)));
+        assertThat(base.map(i->i*2).materializeAsync().block().size(),equalTo(10));
+        assertThat(base.size(),equalTo(10));
+        assertThat(subscriptions.get(),equalTo(1));
+        assertThat(Materializer.reuseCount()-reused,equalTo(2l));
+    }
+    private void sleep(long millis){
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -4,15 +4,23 @@ import static com.aol.cyclops.util.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
@@ -71,6 +79,66 @@ public class FluxTest {
                                       .convert(FluxType::narrowK);
     }
     @Test
+    public void tailRecM(){
+        FluxType<Integer> flux = FluxInstances.monad()
+                                      .<Integer,Integer>tailRecM(0, i-> i<100_000 ? widen(Flux.just(Xor.secondary(i+1))) : widen(Flux.just(Xor.primary(i),Xor.primary(-i))))
+                                      .convert(FluxType::narrowK);
+        
+        assertThat(flux.collectList().block(),equalTo(Arrays.asList(100_000,-100_000)));
+    }
+    @Test
+    public void tailRecMDepthFirst(){
+        FluxType<Integer> flux = FluxInstances.monad()
+                                      .<Integer,Integer>tailRecM(0, i-> i<10_000 ? widen(Flux.fromIterable(Arrays.asList(Xor.secondary(i+1),Xor.primary(i)))) 
+                                                                                : widen(Flux.fromIterable(Arrays.asList(Xor.primary(i)))))
+                                      .convert(FluxType::narrowK);
+        
+        assertThat(flux.take(4).collectList().block(),equalTo(Arrays.asList(10_000,9_999,9_998,9_997)));
+        assertThat(flux.count().block(),equalTo(10_001L));
+    }
+    @Test
+    public void tailRecMBoundedDemand(){
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> values = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        FluxInstances.monad()
+                     .<Integer,Integer>tailRecM(0, i-> { calls.incrementAndGet(); return widen(Flux.just(Xor.primary(i),Xor.secondary(i+1))); })
+                     .convert(FluxType::narrowK)
+                     .subscribe(new Subscriber<Integer>() {
+                        @Override
+                        public void onSubscribe(Subscription s) {
+                            subscription.set(s);
+                            s.request(1);
+                        }
+                        @Override
+                        public void onNext(Integer t) {
+                            values.add(t);
+                        }
+                        @Override
+                        public void onError(Throwable t) {
+                        }
+                        @Override
+                        public void onComplete() {
+                        }
+                     });
+        
+        assertThat(values,equalTo(Arrays.asList(0)));
+        assertThat(calls.get(),equalTo(1));
+        subscription.get().request(2);
+        assertThat(values,equalTo(Arrays.asList(0,1,2)));
+        assertThat(calls.get(),equalTo(3));
+        subscription.get().cancel();
+    }
+    @Test
+    public void tailRecMNonScalarSources(){
+        FluxType<Integer> flux = FluxInstances.monad()
+                                      .<Integer,Integer>tailRecM(0, i-> i<1_000_000 ? widen(Flux.fromIterable(Collections.singletonList(Xor.secondary(i+1)))) 
+                                                                                   : widen(Flux.fromIterable(Collections.singletonList(Xor.primary(i)))))
+                                      .convert(FluxType::narrowK);
+        
+        assertThat(flux.collectList().block(),equalTo(Arrays.asList(1_000_000)));
+    }
+    @Test
     public void monad(){
         
         FluxType<Integer> list = FluxInstances.unit()
@@ -134,6 +202,20 @@ public class FluxTest {
         assertThat(sum,equalTo(10));
     }
     @Test
+    public void  parallelFoldMap(){
+        String result  = FluxInstances.foldable()
+                        .parallelFoldMap(Monoid.of("",(a,b)->a+b), (Integer i)->i+",", FluxType.widen(Flux.range(0,10_000)), 4);
+        
+        assertThat(result,equalTo(ReactiveSeq.range(0,10_000).map(i->i+",").collect(Collectors.joining())));
+    }
+    @Test
+    public void  parallelFoldMapEmpty(){
+        int sum  = FluxInstances.foldable()
+                        .parallelFoldMap(Monoid.of(0,(a,b)->a+b), (Integer i)->i, FluxType.widen(Flux.<Integer>empty()), 4);
+        
+        assertThat(sum,equalTo(0));
+    }
+    @Test
     public void traverse(){
        MaybeType<Higher<FluxType.µ, Integer>> res = FluxInstances.traverse()
                                                          .traverseA(MaybeInstances.applicative(), (Integer a)->MaybeType.just(a*2), FluxType.just(1,2,3))
@@ -143,5 +225,14 @@ public class FluxTest {
        assertThat(res.map(i->i.convert(FluxType::narrowK).collect(Collectors.toList()).block()),
                   equalTo(Maybe.just(ListX.of(2,4,6))));
     }
+    @Test
+    public void traverseLarge(){
+       MaybeType<Higher<FluxType.µ, Integer>> res = FluxInstances.traverse()
+                                                         .traverseA(MaybeInstances.applicative(), (Integer a)->MaybeType.just(a*2), FluxType.widen(Flux.range(0,100_000)))
+                                                         .convert(MaybeType::narrowK);
+       
+       assertThat(res.map(i->i.convert(FluxType::narrowK).count().block()),
+                  equalTo(Maybe.just(100_000L)));
+    }
     
 }
@@ -130,6 +130,13 @@ public class MonosTest {
         assertThat(sum,equalTo(1));
     }
     @Test
+    public void  foldMapEmpty(){
+        int length  = MonoInstances.foldable()
+                        .foldMap(Monoid.of(0,(a,b)->a+b), (String s)->s.length(), MonoType.widen(Mono.<String>empty()));
+        
+        assertThat(length,equalTo(0));
+    }
+    @Test
     public void traverse(){
        MaybeType<Higher<MonoType.µ, Integer>> res = MonoInstances.traverse()
                                                                  .traverseA(MaybeInstances.applicative(), (Integer a)->MaybeType.just(a*2), MonoType.just(1))
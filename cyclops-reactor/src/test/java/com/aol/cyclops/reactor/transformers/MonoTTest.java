@@ -9,13 +9,17 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -52,6 +56,7 @@ import com.aol.cyclops.data.collections.extensions.standard.QueueX;
 import com.aol.cyclops.data.collections.extensions.standard.SetX;
 import com.aol.cyclops.data.collections.extensions.standard.SortedSetX;
 import com.aol.cyclops.reactor.transformer.MonoT;
+import com.aol.cyclops.reactor.transformer.MonoTSeq;
 import com.aol.cyclops.reactor.transformer.MonoTValue;
 import com.aol.cyclops.types.applicative.ApplicativeFunctor.Applicatives;
 import com.aol.cyclops.types.mixins.Printable;
@@ -801,4 +806,48 @@ public class MonoTTest implements Printable {
         assertThat(none.unit(10).toMaybe(),equalTo(just.value().toMaybe()));
     }
 
-}
\ No newline at end of file
+    private Mono<Integer> tracked(int value, AtomicInteger inFlight, AtomicInteger maxInFlight) {
+        return Mono.defer(() -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return Mono.delay(Duration.ofMillis(10 - value % 10))
+                       .map(l -> value)
+                       .doOnTerminate((v, e) -> inFlight.decrementAndGet());
+        });
+    }
+
+    @Test
+    public void sequenceLimitsConcurrency() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Long> batches = new CopyOnWriteArrayList<>();
+        MonoTSeq<Integer> monos = MonoT.fromIterable(ListX.range(0, 20)
+                                                          .map(i -> tracked(i, inFlight, maxInFlight)));
+        assertThat(monos.sequence(4, batches::add)
+                        .block(),
+                   equalTo(ListX.range(0, 20)));
+        assertThat(maxInFlight.get(), equalTo(4));
+        assertThat(batches.size(), equalTo(5));
+    }
+
+    @Test
+    public void traverseKeepsOrder() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        MonoTSeq<Integer> monos = MonoT.fromIterable(ListX.of(Mono.just(1), Mono.<Integer> empty(), Mono.just(3), Mono.just(7)));
+        assertThat(monos.traverse(i -> tracked(i, inFlight, maxInFlight).map(v -> "" + v), 2)
+                        .block(),
+                   equalTo(ListX.of("1", "3", "7")));
+        assertThat(maxInFlight.get(), equalTo(2));
+    }
+
+    @Test
+    public void sequenceValue() {
+        assertThat(just.sequence(1)
+                       .block(),
+                   equalTo(ListX.of(10)));
+        assertThat(none.traverse(i -> Mono.just(i * 2), 1)
+                       .block(),
+                   equalTo(ListX.empty()));
+    }
+
+}
@@ -8,8 +8,11 @@ import java.util.function.Supplier;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -19,6 +22,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
 import com.aol.cyclops.rx.hkt.ObservableType;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
 import rx.Observable;
@@ -152,7 +156,8 @@ public class ObservableInstances {
     public static <T,R> Monad<ObservableType.µ> monad(){
   
         BiFunction<Higher<ObservableType.µ,T>,Function<? super T, ? extends Higher<ObservableType.µ,R>>,Higher<ObservableType.µ,R>> flatMap = ObservableInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<ObservableType.µ,Xor<T,R>>>,Higher<ObservableType.µ,R>> tailRecM = ObservableInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -252,10 +257,11 @@ public class ObservableInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<ObservableType.µ> foldable(){
+    public static <T,R> Foldable<ObservableType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<ObservableType.µ,T>,T> foldRightFn =  (m,l)-> ReactiveSeq.fromPublisher(ObservableType.narrowK(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<ObservableType.µ,T>,T> foldLeftFn = (m,l)-> ReactiveSeq.fromPublisher(ObservableType.narrowK(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<ObservableType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> ParallelFold.foldMap(m, fn, ReactiveSeq.fromPublisher(ObservableType.narrowK(l))::iterator, p);
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> ObservableType<T> concat(ObservableType<T> l1, ObservableType<T> l2){
@@ -273,6 +279,10 @@ public class ObservableInstances {
         return ObservableType.widen(ObservableType.narrowK(lt)
                                         .flatMap(f));
     }
+    private static <T,R> Higher<ObservableType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<ObservableType.µ,Xor<T,R>>> fn){
+        //each step is consumed as an Iterable, so asynchronous steps block the subscribing thread until they complete
+        return ObservableType.widen(Observable.from(()->TailRec.iterator(initial, fn.andThen(h->ReactiveSeq.fromPublisher(ObservableType.narrowK(h))))));
+    }
     private static <T,R> ObservableType<R> map(ObservableType<T> lt, Function<? super T, ? extends R> fn){
         return ObservableType.widen(lt.map(in->fn.apply(in)));
     }
@@ -6,6 +6,7 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.alias.Higher2;
 import com.aol.cyclops.hkt.typeclasses.Unit;
@@ -19,6 +20,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
 import com.aol.cyclops.hkt.typeclasses.monad.TraverseBySequence;
 import com.aol.cyclops.hkt.typeclasses.monad.TraverseByTraverse;
+import com.aol.cyclops.util.function.QuadFunction;
 import com.aol.cyclops.util.function.TriFunction;
 
 import lombok.AllArgsConstructor;
@@ -113,17 +115,28 @@ public interface General {
        
         Applicative<CRE> applicative;
         BiFunction<? extends Higher<CRE,A>,Function<? super A,? extends Higher<CRE,B>>,? extends Higher<CRE,B>> bindRef; //reference to bind / flatMap method
-       
+        BiFunction<A,Function<? super A,? extends Higher<CRE,Xor<A,B>>>,? extends Higher<CRE,B>> tailRecRef; //optional constant stack tailRecM
         
         <T,R> BiFunction<Higher<CRE,T>,Function<? super T,? extends Higher<CRE,R>>,Higher<CRE,R>> bindRef(){
             return (BiFunction)bindRef;
         }
         
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        <T,R> BiFunction<T,Function<? super T,? extends Higher<CRE,Xor<T,R>>>,Higher<CRE,R>> tailRecRef(){
+            return (BiFunction)tailRecRef;
+        }
        
         @Override
         public <T,R> Higher<CRE,R> flatMap(Function<? super T,? extends Higher<CRE,R>> fn,Higher<CRE,T> ds){
             return this.<T,R>bindRef().apply(ds,fn);
         }
+        
+        @Override
+        public <T, R> Higher<CRE, R> tailRecM(T initial, Function<? super T, ? extends Higher<CRE, Xor<T, R>>> fn) {
+            if(tailRecRef==null)
+                return Monad.super.tailRecM(initial, fn);
+            return this.<T,R>tailRecRef().apply(initial,fn);
+        }
        
         
         @Override
@@ -147,7 +160,14 @@ public interface General {
     static  <CRE,A,B> GeneralMonad<CRE,A,B> monad(Applicative<CRE> applicative,
             BiFunction<? extends Higher<CRE,A>,Function<? super A,? extends Higher<CRE,B>>,? extends Higher<CRE,B>> bindRef) {
    
-        return new GeneralMonad<CRE,A,B>(applicative,bindRef);
+        return new GeneralMonad<CRE,A,B>(applicative,bindRef,null);
+        
+    }
+    static  <CRE,A,B> GeneralMonad<CRE,A,B> monad(Applicative<CRE> applicative,
+            BiFunction<? extends Higher<CRE,A>,Function<? super A,? extends Higher<CRE,B>>,? extends Higher<CRE,B>> bindRef,
+            BiFunction<A,Function<? super A,? extends Higher<CRE,Xor<A,B>>>,? extends Higher<CRE,B>> tailRecRef) {
+   
+        return new GeneralMonad<CRE,A,B>(applicative,bindRef,tailRecRef);
         
     }
     @AllArgsConstructor
@@ -167,6 +187,11 @@ public interface General {
             return monad.flatMap(fn, ds);
         }
 
+        @Override
+        public <T, R> Higher<CRE, R> tailRecM(T initial, Function<? super T, ? extends Higher<CRE, Xor<T, R>>> fn) {
+            return monad.tailRecM(initial, fn);
+        }
+
         @Override
         public <T,R> Higher<CRE,R> ap(Higher<CRE, Function< T,R>> fn,  Higher<CRE,T> apply){
             return monad.ap(fn, apply);
@@ -205,6 +230,11 @@ public interface General {
             return monad.flatMap(fn, ds);
         }
 
+        @Override
+        public <T, R> Higher<CRE, R> tailRecM(T initial, Function<? super T, ? extends Higher<CRE, Xor<T, R>>> fn) {
+            return monad.tailRecM(initial, fn);
+        }
+
         @Override
         public <T,R> Higher<CRE,R> ap(Higher<CRE, Function< T,R>> fn,  Higher<CRE,T> apply){
             return monad.ap(fn, apply);
@@ -250,6 +280,11 @@ public interface General {
             return monad.flatMap(fn, ds);
         }
 
+        @Override
+        public <T, R> Higher<CRE, R> tailRecM(T initial, Function<? super T, ? extends Higher<CRE, Xor<T, R>>> fn) {
+            return monad.tailRecM(initial, fn);
+        }
+
         @Override
         public <T,R> Higher<CRE,R> ap(Higher<CRE, Function< T,R>> fn,  Higher<CRE,T> apply){
             return monad.ap(fn,apply);
@@ -284,6 +319,11 @@ public interface General {
             return monad.flatMap(fn, ds);
         }
 
+        @Override
+        public <T, R> Higher<CRE, R> tailRecM(T initial, Function<? super T, ? extends Higher<CRE, Xor<T, R>>> fn) {
+            return monad.tailRecM(initial, fn);
+        }
+
         @Override
         public <T,R> Higher<CRE,R> ap(Higher<CRE, Function< T,R>> fn,  Higher<CRE,T> apply){
             return monad.ap(fn,apply);
@@ -355,9 +395,10 @@ public interface General {
         
     }
     @AllArgsConstructor
-    static class GeneralFoldable<CRE,T> implements Foldable<CRE>{
+    static class GeneralFoldable<CRE,T,R> implements Foldable<CRE>{
         BiFunction<Monoid<T>,Higher<CRE,T>,T> foldRightFn;
         BiFunction<Monoid<T>,Higher<CRE,T>,T> foldLeftFn;
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<CRE,T>,Integer,R> foldMapFn; //reference to (parallel) foldMap, may be null
         
         <T> BiFunction<Monoid<T>,Higher<CRE,T>,T> foldRightFn(){
             return (BiFunction)foldRightFn;
@@ -365,6 +406,10 @@ public interface General {
         <T> BiFunction<Monoid<T>,Higher<CRE,T>,T> foldLeftFn(){
             return (BiFunction)foldLeftFn;
         }
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        <T,R> QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<CRE,T>,Integer,R> foldMapFn(){
+            return (QuadFunction)foldMapFn;
+        }
         
         public <T> T foldRight(Monoid<T> monoid, Higher<CRE,T> ds){
             return this.<T>foldRightFn().apply(monoid,ds);
@@ -373,10 +418,20 @@ public interface General {
         public <T> T foldLeft(Monoid<T> monoid, Higher<CRE,T> ds){
             return this.<T>foldLeftFn().apply(monoid,ds);
         }
+        
+        public <T,R> R parallelFoldMap(Monoid<R> mb, Function<? super T,? extends R> fn, Higher<CRE,T> ds, int parallelism){
+            if(foldMapFn==null)
+                return Foldable.super.parallelFoldMap(mb,fn,ds,parallelism);
+            return this.<T,R>foldMapFn().apply(mb,fn,ds,parallelism);
+        }
     }
     
-    static <CRE,T> GeneralFoldable<CRE,T> foldable(BiFunction<Monoid<T>,Higher<CRE,T>,T> foldRightFn,BiFunction<Monoid<T>,Higher<CRE,T>,T> foldLeftFn){
-        return new GeneralFoldable<CRE,T>(foldRightFn,foldLeftFn);
+    static <CRE,T> GeneralFoldable<CRE,T,T> foldable(BiFunction<Monoid<T>,Higher<CRE,T>,T> foldRightFn,BiFunction<Monoid<T>,Higher<CRE,T>,T> foldLeftFn){
+        return new GeneralFoldable<CRE,T,T>(foldRightFn,foldLeftFn,null);
+    }
+    static <CRE,T,R> GeneralFoldable<CRE,T,R> foldable(BiFunction<Monoid<T>,Higher<CRE,T>,T> foldRightFn,BiFunction<Monoid<T>,Higher<CRE,T>,T> foldLeftFn,
+            QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<CRE,T>,Integer,R> foldMapFn){
+        return new GeneralFoldable<CRE,T,R>(foldRightFn,foldLeftFn,foldMapFn);
     }
     @AllArgsConstructor
     static class GeneralTraverse<CRE,C2,A,B> implements TraverseBySequence<CRE>{
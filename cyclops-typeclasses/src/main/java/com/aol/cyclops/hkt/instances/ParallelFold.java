@@ -0,0 +1,127 @@
+package com.aol.cyclops.hkt.instances;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import com.aol.cyclops.Monoid;
+
+import lombok.AllArgsConstructor;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Fork-join foldMap implementation shared by the Foldable type class instances
+ *
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+public class ParallelFold {
+
+    /**
+     * Segments smaller than this are always folded sequentially
+     */
+    public static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    /**
+     * Pools for parallelism levels below that of the common pool, created on first use and reused across folds
+     */
+    private static final ConcurrentMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * Fold the supplied values, random access Lists are split in place, other Iterables are copied to an ArrayList first.
+     *
+     * @param mb Monoid to combine the transformed values
+     * @param fn Function to transform each value
+     * @param values Values to fold
+     * @param parallelism Max number of threads to use (1 folds sequentially on the calling thread)
+     * @return Reduced value
+     */
+    public static <T, R> R foldMap(Monoid<R> mb, Function<? super T, ? extends R> fn, Iterable<T> values,
+            int parallelism) {
+        if (values instanceof List && values instanceof RandomAccess) {
+            final List<T> list = (List<T>) values;
+            return foldMap(mb, fn, list::get, list.size(), parallelism);
+        }
+        if (parallelism <= 1) {
+            R result = mb.zero();
+            for (final T next : values)
+                result = mb.apply(result, fn.apply(next));
+            return result;
+        }
+        final List<T> copy;
+        if (values instanceof Collection) {
+            copy = new ArrayList<>(
+                                   (Collection<T>) values);
+        } else {
+            copy = new ArrayList<>();
+            values.forEach(copy::add);
+        }
+        return foldMap(mb, fn, copy::get, copy.size(), parallelism);
+    }
+
+    /**
+     * Fold size values accessed by index, splitting the index range recursively until segments are small enough to
+     * fold sequentially. Uses the common ForkJoinPool when it has at least parallelism threads, otherwise a
+     * cached pool shared by all folds with the same parallelism.
+     *
+     * @param mb Monoid to combine the transformed values
+     * @param fn Function to transform each value
+     * @param get Function to access a value by index
+     * @param size Number of values
+     * @param parallelism Max number of threads to use (1 folds sequentially on the calling thread)
+     * @return Reduced value
+     */
+    public static <T, R> R foldMap(Monoid<R> mb, Function<? super T, ? extends R> fn, IntFunction<? extends T> get,
+            int size, int parallelism) {
+        if (parallelism <= 1 || size <= SEQUENTIAL_THRESHOLD)
+            return fold(mb, fn, get, 0, size);
+        final int threshold = Math.max(SEQUENTIAL_THRESHOLD, size / (parallelism * 4) + 1);
+        final FoldTask<T, R> task = new FoldTask<>(
+                                                   mb, fn, get, 0, size, threshold);
+        final ForkJoinPool common = ForkJoinPool.commonPool();
+        if (parallelism >= common.getParallelism())
+            return common.invoke(task);
+        return POOLS.computeIfAbsent(parallelism, ForkJoinPool::new)
+                    .invoke(task);
+    }
+
+    private static <T, R> R fold(Monoid<R> mb, Function<? super T, ? extends R> fn, IntFunction<? extends T> get,
+            int from, int to) {
+        R result = mb.zero();
+        for (int i = from; i < to; i++)
+            result = mb.apply(result, fn.apply(get.apply(i)));
+        return result;
+    }
+
+    @AllArgsConstructor
+    private static final class FoldTask<T, R> extends RecursiveTask<R> {
+        private static final long serialVersionUID = 1L;
+        private final Monoid<R> mb;
+        private final Function<? super T, ? extends R> fn;
+        private final IntFunction<? extends T> get;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        @Override
+        protected R compute() {
+            if (to - from <= threshold)
+                return fold(mb, fn, get, from, to);
+            final int mid = (from + to) >>> 1;
+            final FoldTask<T, R> left = new FoldTask<>(
+                                                       mb, fn, get, from, mid, threshold);
+            left.fork();
+            final R right = new FoldTask<>(
+                                           mb, fn, get, mid, to, threshold).compute();
+            return mb.apply(left.join(), right);
+        }
+    }
+}
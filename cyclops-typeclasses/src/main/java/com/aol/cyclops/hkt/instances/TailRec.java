@@ -0,0 +1,125 @@
+package com.aol.cyclops.hkt.instances;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import com.aol.cyclops.control.Xor;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Constant stack implementations of tailRecM shared by the type class instances
+ *
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+public class TailRec {
+
+    /**
+     * Lazily evaluate tailRecM for Iterable based data types. Nested Iterables are traversed depth first (matching
+     * flatMap ordering) using an explicit stack, levels that have no more elements are discarded before a new level is
+     * entered, so a loop that produces a single element per step runs in constant space.
+     *
+     * @param initial Starting value
+     * @param fn Function that returns the values to loop with (Xor.secondary) or emit (Xor.primary)
+     * @return Iterator over the emitted values
+     */
+    public static <T, R> Iterator<R> iterator(T initial, Function<? super T, ? extends Iterable<Xor<T, R>>> fn) {
+        return new Iterator<R>() {
+            Deque<Iterator<Xor<T, R>>> stack;
+            R next;
+            boolean ready;
+
+            @Override
+            public boolean hasNext() {
+                if (stack == null) {
+                    stack = new ArrayDeque<>();
+                    stack.push(fn.apply(initial)
+                                 .iterator());
+                }
+                while (!ready && !stack.isEmpty()) {
+                    final Iterator<Xor<T, R>> top = stack.peek();
+                    if (!top.hasNext()) {
+                        stack.pop();
+                        continue;
+                    }
+                    final Xor<T, R> xor = top.next();
+                    if (xor.isPrimary()) {
+                        next = xor.get();
+                        ready = true;
+                    } else {
+                        if (!top.hasNext())
+                            stack.pop();
+                        stack.push(fn.apply(xor.secondaryGet())
+                                     .iterator());
+                    }
+                }
+                return ready;
+            }
+
+            @Override
+            public R next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                final R result = next;
+                next = null;
+                ready = false;
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Evaluate tailRecM for CompletableFutures. Steps that have already completed are looped over on the calling
+     * thread, otherwise the loop continues on the thread that completes the step, so the stack does not grow with
+     * the number of iterations. A step that completes with null completes the result with null.
+     *
+     * @param initial Starting value
+     * @param fn Function that returns the next asynchronous step
+     * @return CompletableFuture completed with the result of the loop
+     */
+    public static <T, R> CompletableFuture<R> future(T initial,
+            Function<? super T, ? extends CompletableFuture<Xor<T, R>>> fn) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        loop(initial, fn, result);
+        return result;
+    }
+
+    private static <T, R> void loop(T initial, Function<? super T, ? extends CompletableFuture<Xor<T, R>>> fn,
+            CompletableFuture<R> result) {
+        T value = initial;
+        for (;;) {
+            final CompletableFuture<Xor<T, R>> step;
+            final Xor<T, R> xor;
+            try {
+                step = fn.apply(value);
+                if (!step.isDone()) {
+                    step.whenComplete((x, e) -> {
+                        if (e != null)
+                            result.completeExceptionally(e instanceof CompletionException ? e.getCause() : e);
+                        else if (x == null || x.isPrimary())
+                            result.complete(x == null ? null : x.get());
+                        else
+                            loop(x.secondaryGet(), fn, result);
+                    });
+                    return;
+                }
+                xor = step.join();
+            } catch (final Throwable t) {
+                result.completeExceptionally(t instanceof CompletionException ? t.getCause() : t);
+                return;
+            }
+            if (xor == null || xor.isPrimary()) {
+                result.complete(xor == null ? null : xor.get());
+                return;
+            }
+            value = xor.secondaryGet();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.aol.cyclops.hkt.instances;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.pcollections.ConsPStack;
+import org.pcollections.PStack;
+
+import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.cyclops.MaybeType;
+import com.aol.cyclops.hkt.jdk.CompletableFutureType;
+import com.aol.cyclops.hkt.jdk.OptionalType;
+import com.aol.cyclops.hkt.typeclasses.monad.Applicative;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Linear time sequence implementation shared by the Traverse type class instances
+ *
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+public class Traversals {
+
+    /**
+     * Sequence the supplied values into a single applicative containing a List of their contents, e.g.
+     *
+     * <pre>
+     * {@code
+     *    Traversals.sequence(OptionalInstances.applicative(), Arrays.asList(OptionalType.of(1),OptionalType.of(2)), 2);
+     *    //Optional[[1,2]]
+     * }
+     * </pre>
+     *
+     * Optional, Maybe and CompletableFuture values are collected directly into a pre-sized List. Other applicatives
+     * accumulate into a persistent stack with two ap calls per element, which is safe for applicatives that reuse the
+     * accumulated value more than once (e.g. Lists), and is reversed into a List in a single map at the end.
+     *
+     * @param ap Applicative for the values
+     * @param values Values to sequence
+     * @param sizeHint Expected number of values, or -1 if unknown
+     * @return Applicative containing a List of the values
+     */
+    public static <C2, T> Higher<C2, List<T>> sequence(Applicative<C2> ap, Iterable<? extends Higher<C2, T>> values,
+            int sizeHint) {
+        final Iterator<? extends Higher<C2, T>> it = values.iterator();
+        if (!it.hasNext())
+            return ap.unit(new ArrayList<>(0));
+        final Higher<C2, T> first = it.next();
+        if (first instanceof OptionalType)
+            return cast(sequenceOptional(cast(first), cast(it), sizeHint));
+        if (first instanceof MaybeType)
+            return cast(sequenceMaybe(cast(first), cast(it), sizeHint));
+        if (first instanceof CompletableFutureType)
+            return cast(sequenceFuture(cast(first), cast(it), sizeHint));
+
+        final Higher<C2, Function<PStack<T>, Function<T, PStack<T>>>> cons = ap.unit(stack -> next -> stack.plus(next));
+        Higher<C2, PStack<T>> acc = ap.map(ConsPStack::singleton, first);
+        while (it.hasNext())
+            acc = ap.ap2(cons, acc, it.next());
+        return ap.map(Traversals::reverse, acc);
+    }
+
+    /**
+     * Witness types are checked by the caller via instanceof
+     */
+    @SuppressWarnings("unchecked")
+    private static <R> R cast(Object value) {
+        return (R) value;
+    }
+
+    private static <T> List<T> reverse(PStack<T> stack) {
+        final List<T> list = new ArrayList<>(
+                                             stack);
+        Collections.reverse(list);
+        return list;
+    }
+
+    private static <T> Higher<OptionalType.µ, List<T>> sequenceOptional(Higher<OptionalType.µ, T> first,
+            Iterator<Higher<OptionalType.µ, T>> it, int sizeHint) {
+        final List<T> list = new ArrayList<>(
+                                             Math.max(sizeHint, 10));
+        Optional<T> next = OptionalType.narrow(first);
+        for (;;) {
+            if (!next.isPresent())
+                return OptionalType.empty();
+            list.add(next.get());
+            if (!it.hasNext())
+                return OptionalType.of(list);
+            next = OptionalType.narrow(it.next());
+        }
+    }
+
+    private static <T> Higher<MaybeType.µ, List<T>> sequenceMaybe(Higher<MaybeType.µ, T> first,
+            Iterator<Higher<MaybeType.µ, T>> it, int sizeHint) {
+        final List<T> list = new ArrayList<>(
+                                             Math.max(sizeHint, 10));
+        Maybe<T> next = MaybeType.narrow(first);
+        for (;;) {
+            if (!next.isPresent())
+                return MaybeType.widen(Maybe.none());
+            list.add(next.get());
+            if (!it.hasNext())
+                return MaybeType.widen(Maybe.just(list));
+            next = MaybeType.narrow(it.next());
+        }
+    }
+
+    private static <T> Higher<CompletableFutureType.µ, List<T>> sequenceFuture(
+            Higher<CompletableFutureType.µ, T> first, Iterator<Higher<CompletableFutureType.µ, T>> it, int sizeHint) {
+        final List<CompletableFuture<T>> futures = new ArrayList<>(
+                                                                   Math.max(sizeHint, 10));
+        futures.add(CompletableFutureType.narrow(first));
+        while (it.hasNext())
+            futures.add(CompletableFutureType.narrow(it.next()));
+        return CompletableFutureType.widen(CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]))
+                                                            .thenApply(v -> {
+                                                                final List<T> list = new ArrayList<>(
+                                                                                                     futures.size());
+                                                                for (final CompletableFuture<T> next : futures)
+                                                                    list.add(next.join());
+                                                                return list;
+                                                            }));
+    }
+}
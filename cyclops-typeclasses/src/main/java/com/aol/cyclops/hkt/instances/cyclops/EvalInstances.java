@@ -5,6 +5,7 @@ import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Eval;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.EvalType;
 import com.aol.cyclops.hkt.instances.General;
@@ -17,6 +18,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
 
@@ -150,7 +152,8 @@ public class EvalInstances {
     public static <T,R> Monad<EvalType.µ> monad(){
   
         BiFunction<Higher<EvalType.µ,T>,Function<? super T, ? extends Higher<EvalType.µ,R>>,Higher<EvalType.µ,R>> flatMap = EvalInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<EvalType.µ,Xor<T,R>>>,Higher<EvalType.µ,R>> tailRecM = EvalInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -237,10 +240,11 @@ public class EvalInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<EvalType.µ> foldable(){
+    public static <T,R> Foldable<EvalType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<EvalType.µ,T>,T> foldRightFn =  (m,l)-> EvalType.narrow(l).orElse(m.zero());
         BiFunction<Monoid<T>,Higher<EvalType.µ,T>,T> foldLeftFn = (m,l)-> EvalType.narrow(l).orElse(m.zero());
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<EvalType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> EvalType.narrow(l).<R>map(fn).orElse(m.zero());
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     public static <T> Comonad<EvalType.µ> comonad(){
@@ -257,6 +261,14 @@ public class EvalInstances {
     private static <T,R> Higher<EvalType.µ,R> flatMap( Higher<EvalType.µ,T> lt, Function<? super T, ? extends  Higher<EvalType.µ,R>> fn){
         return EvalType.widen(EvalType.narrow(lt).flatMap(fn.andThen(EvalType::narrow)));
     }
+    private static <T,R> Higher<EvalType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<EvalType.µ,Xor<T,R>>> fn){
+        return EvalType.widen(Eval.later(()->{
+            Xor<T,R> next = EvalType.narrow(fn.apply(initial)).get();
+            while(next.isSecondary())
+                next = EvalType.narrow(fn.apply(next.secondaryGet())).get();
+            return next.get();
+        }));
+    }
     private static <T,R> EvalType<R> map(EvalType<T> lt, Function<? super T, ? extends R> fn){
         return EvalType.widen(EvalType.narrow(lt).map(fn));
     }
@@ -6,9 +6,11 @@ import java.util.function.Function;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
 import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.FutureType;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.comonad.Comonad;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -18,6 +20,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
 
@@ -150,7 +153,8 @@ public class FutureWInstances {
     public static <T,R> Monad<FutureType.µ> monad(){
   
         BiFunction<Higher<FutureType.µ,T>,Function<? super T, ? extends Higher<FutureType.µ,R>>,Higher<FutureType.µ,R>> flatMap = FutureWInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<FutureType.µ,Xor<T,R>>>,Higher<FutureType.µ,R>> tailRecM = FutureWInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -237,10 +241,11 @@ public class FutureWInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<FutureType.µ> foldable(){
+    public static <T,R> Foldable<FutureType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<FutureType.µ,T>,T> foldRightFn =  (m,l)-> m.apply(m.zero(), FutureType.narrow(l).get());
         BiFunction<Monoid<T>,Higher<FutureType.µ,T>,T> foldLeftFn = (m,l)->  m.apply(m.zero(), FutureType.narrow(l).get());
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<FutureType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> m.apply(m.zero(), fn.apply(FutureType.narrow(l).get()));
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
     public static <T> Comonad<FutureType.µ> comonad(){
         Function<? super Higher<FutureType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(FutureType::narrow).get();
@@ -257,6 +262,9 @@ public class FutureWInstances {
     private static <T,R> Higher<FutureType.µ,R> flatMap( Higher<FutureType.µ,T> lt, Function<? super T, ? extends  Higher<FutureType.µ,R>> fn){
         return FutureType.widen(FutureType.narrow(lt).flatMap(fn.andThen(FutureType::narrowK)));
     }
+    private static <T,R> Higher<FutureType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<FutureType.µ,Xor<T,R>>> fn){
+        return FutureType.widen(FutureW.of(TailRec.future(initial, fn.andThen(h->FutureType.narrow(h).getFuture()))));
+    }
     private static <T,R> FutureType<R> map(FutureType<T> lt, Function<? super T, ? extends R> fn){
         return FutureType.widen(lt.map(fn));
     }
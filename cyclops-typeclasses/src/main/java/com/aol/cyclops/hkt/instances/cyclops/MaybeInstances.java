@@ -6,6 +6,7 @@ import java.util.function.Function;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.General;
@@ -18,6 +19,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
 
@@ -151,7 +153,8 @@ public class MaybeInstances {
     public static <T,R> Monad<MaybeType.µ> monad(){
   
         BiFunction<Higher<MaybeType.µ,T>,Function<? super T, ? extends Higher<MaybeType.µ,R>>,Higher<MaybeType.µ,R>> flatMap = MaybeInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<MaybeType.µ,Xor<T,R>>>,Higher<MaybeType.µ,R>> tailRecM = MaybeInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -238,10 +241,11 @@ public class MaybeInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<MaybeType.µ> foldable(){
+    public static <T,R> Foldable<MaybeType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<MaybeType.µ,T>,T> foldRightFn =  (m,l)-> MaybeType.narrow(l).orElse(m.zero());
         BiFunction<Monoid<T>,Higher<MaybeType.µ,T>,T> foldLeftFn = (m,l)-> MaybeType.narrow(l).orElse(m.zero());
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<MaybeType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> MaybeType.narrow(l).<R>map(fn).orElse(m.zero());
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
     
     public static <T> Comonad<MaybeType.µ> comonad(){
@@ -260,6 +264,12 @@ public class MaybeInstances {
     private static <T,R> Higher<MaybeType.µ,R> flatMap( Higher<MaybeType.µ,T> lt, Function<? super T, ? extends  Higher<MaybeType.µ,R>> fn){
         return MaybeType.widen(MaybeType.narrow(lt).flatMap(fn.andThen(MaybeType::narrow)));
     }
+    private static <T,R> Higher<MaybeType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<MaybeType.µ,Xor<T,R>>> fn){
+        Maybe<Xor<T,R>> next = MaybeType.narrow(fn.apply(initial));
+        while(next.isPresent() && next.get().isSecondary())
+            next = MaybeType.narrow(fn.apply(next.get().secondaryGet()));
+        return MaybeType.widen(next.map(Xor::get));
+    }
     private static <T,R> MaybeType<R> map(MaybeType<T> lt, Function<? super T, ? extends R> fn){
         return MaybeType.widen(MaybeType.narrow(lt).map(fn));
     }
@@ -6,9 +6,11 @@ import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.jdk.CompletableFutureType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.comonad.Comonad;
@@ -19,6 +21,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
 
@@ -150,7 +153,8 @@ public class CompletableFutureInstances {
     public static <T,R> Monad<CompletableFutureType.µ> monad(){
   
         BiFunction<Higher<CompletableFutureType.µ,T>,Function<? super T, ? extends Higher<CompletableFutureType.µ,R>>,Higher<CompletableFutureType.µ,R>> flatMap = CompletableFutureInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<CompletableFutureType.µ,Xor<T,R>>>,Higher<CompletableFutureType.µ,R>> tailRecM = CompletableFutureInstances::tailRecM;
+        return General.monad(applicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -237,10 +241,11 @@ public class CompletableFutureInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<CompletableFutureType.µ> foldable(){
+    public static <T,R> Foldable<CompletableFutureType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<CompletableFutureType.µ,T>,T> foldRightFn =  (m,l)-> m.apply(m.zero(), CompletableFutureType.narrow(l).join());
         BiFunction<Monoid<T>,Higher<CompletableFutureType.µ,T>,T> foldLeftFn = (m,l)->  m.apply(m.zero(), CompletableFutureType.narrow(l).join());
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<CompletableFutureType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> m.apply(m.zero(), fn.apply(CompletableFutureType.narrow(l).join()));
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
     public static <T> Comonad<CompletableFutureType.µ> comonad(){
         Function<? super Higher<CompletableFutureType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(CompletableFutureType::narrow).join();
@@ -257,6 +262,9 @@ public class CompletableFutureInstances {
     private static <T,R> Higher<CompletableFutureType.µ,R> flatMap( Higher<CompletableFutureType.µ,T> lt, Function<? super T, ? extends  Higher<CompletableFutureType.µ,R>> fn){
         return CompletableFutureType.widen(CompletableFutureType.narrow(lt).thenCompose(fn.andThen(CompletableFutureType::narrowK)));
     }
+    private static <T,R> Higher<CompletableFutureType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<CompletableFutureType.µ,Xor<T,R>>> fn){
+        return CompletableFutureType.widen(TailRec.future(initial, fn.andThen(CompletableFutureType::narrow)));
+    }
     private static <T,R> CompletableFutureType<R> map(CompletableFutureType<T> lt, Function<? super T, ? extends R> fn){
         return CompletableFutureType.widen(lt.thenApply(fn));
     }
@@ -9,9 +9,12 @@ import java.util.stream.Stream;
 
 import com.aol.cyclops.CyclopsCollectors;
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.DequeX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.jdk.DequeType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -21,6 +24,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
 
@@ -164,7 +168,8 @@ public class DequeInstances {
     public static <T,R> Monad<DequeType.µ> monad(){
   
         BiFunction<Higher<DequeType.µ,T>,Function<? super T, ? extends Higher<DequeType.µ,R>>,Higher<DequeType.µ,R>> flatMap = DequeInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<DequeType.µ,Xor<T,R>>>,Higher<DequeType.µ,R>> tailRecM = DequeInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -264,10 +269,11 @@ public class DequeInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<DequeType.µ> foldable(){
+    public static <T,R> Foldable<DequeType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<DequeType.µ,T>,T> foldRightFn =  (m,l)-> DequeX.fromIterable(DequeType.narrow(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<DequeType.µ,T>,T> foldLeftFn = (m,l)-> DequeX.fromIterable(DequeType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<DequeType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> ParallelFold.foldMap(m, fn, DequeType.narrow(l), p);
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> DequeType<T> concat(Deque<T> l1, Deque<T> l2){
@@ -282,6 +288,9 @@ public class DequeInstances {
     private static <T,R> Higher<DequeType.µ,R> flatMap( Higher<DequeType.µ,T> lt, Function<? super T, ? extends  Higher<DequeType.µ,R>> fn){
         return DequeType.widen(DequeX.fromIterable(DequeType.narrowK(lt)).flatMap(fn.andThen(DequeType::narrowK)));
     }
+    private static <T,R> Higher<DequeType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<DequeType.µ,Xor<T,R>>> fn){
+        return DequeType.widen(DequeX.fromIterable(()->TailRec.iterator(initial, fn.andThen(DequeType::narrowK))));
+    }
     private static <T,R> DequeType<R> map(DequeType<T> lt, Function<? super T, ? extends R> fn){
         return DequeType.widen(DequeX.fromIterable(lt).map(fn));
     }
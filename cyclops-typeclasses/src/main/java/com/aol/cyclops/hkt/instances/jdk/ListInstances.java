@@ -4,15 +4,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
-import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
+import com.aol.cyclops.hkt.instances.Traversals;
 import com.aol.cyclops.hkt.jdk.ListType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -22,6 +25,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
 
@@ -165,7 +169,8 @@ public class ListInstances {
     public static <T,R> Monad<ListType.µ> monad(){
   
         BiFunction<Higher<ListType.µ,T>,Function<? super T, ? extends Higher<ListType.µ,R>>,Higher<ListType.µ,R>> flatMap = ListInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<ListType.µ,Xor<T,R>>>,Higher<ListType.µ,R>> tailRecM = ListInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -230,21 +235,7 @@ public class ListInstances {
      * @return Type class for traversables with traverse / sequence operations
      */
     public static <C2,T> Traverse<ListType.µ> traverse(){
-        BiFunction<Applicative<C2>,ListType<Higher<C2, T>>,Higher<C2, ListType<T>>> sequenceFn = (ap,list) -> {
-        
-            Higher<C2,ListType<T>> identity = ap.unit(ListType.widen(new ArrayList<>()));
-
-            BiFunction<Higher<C2,ListType<T>>,Higher<C2,T>,Higher<C2,ListType<T>>> combineToList =   (acc,next) -> ap.apBiFn(ap.unit((a,b) -> { a.add(b); return a;}),acc,next);
-
-            BinaryOperator<Higher<C2,ListType<T>>> combineLists = (a,b)-> ap.apBiFn(ap.unit((l1,l2)-> { l1.addAll(l2); return l1;}),a,b); ;  
-
-            return list.stream()
-                      .reduce(identity,
-                              combineToList,
-                              combineLists);  
-
-   
-        };
+        BiFunction<Applicative<C2>,ListType<Higher<C2, T>>,Higher<C2, ListType<T>>> sequenceFn = (ap,list) -> ap.map(ListType::widen, Traversals.sequence(ap, list, list.size()));
         BiFunction<Applicative<C2>,Higher<ListType.µ,Higher<C2, T>>,Higher<C2, Higher<ListType.µ,T>>> sequenceNarrow  = 
                                                         (a,b) -> ListType.widen2(sequenceFn.apply(a, ListType.narrowK(b)));
         return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -265,10 +256,11 @@ public class ListInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<ListType.µ> foldable(){
+    public static <T,R> Foldable<ListType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<ListType.µ,T>,T> foldRightFn =  (m,l)-> ListX.fromIterable(ListType.narrow(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<ListType.µ,T>,T> foldLeftFn = (m,l)-> ListX.fromIterable(ListType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<ListType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> ParallelFold.foldMap(m, fn, ListType.narrow(l), p);
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> ListType<T> concat(List<T> l1, List<T> l2){
@@ -283,6 +275,9 @@ public class ListInstances {
     private static <T,R> Higher<ListType.µ,R> flatMap( Higher<ListType.µ,T> lt, Function<? super T, ? extends  Higher<ListType.µ,R>> fn){
         return ListType.widen(ListX.fromIterable(ListType.narrowK(lt)).flatMap(fn.andThen(ListType::narrowK)));
     }
+    private static <T,R> Higher<ListType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<ListType.µ,Xor<T,R>>> fn){
+        return ListType.widen(ListX.fromIterable(()->TailRec.iterator(initial, fn.andThen(ListType::narrowK))));
+    }
     private static <T,R> ListType<R> map(ListType<T> lt, Function<? super T, ? extends R> fn){
         return ListType.widen(ListX.fromIterable(lt).map(fn));
     }
@@ -9,9 +9,12 @@ import java.util.stream.Stream;
 
 import com.aol.cyclops.CyclopsCollectors;
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.QueueX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.jdk.QueueType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -21,6 +24,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
 
@@ -164,7 +168,8 @@ public class QueueInstances {
     public static <T,R> Monad<QueueType.µ> monad(){
   
         BiFunction<Higher<QueueType.µ,T>,Function<? super T, ? extends Higher<QueueType.µ,R>>,Higher<QueueType.µ,R>> flatMap = QueueInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<QueueType.µ,Xor<T,R>>>,Higher<QueueType.µ,R>> tailRecM = QueueInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -264,10 +269,11 @@ public class QueueInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<QueueType.µ> foldable(){
+    public static <T,R> Foldable<QueueType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<QueueType.µ,T>,T> foldRightFn =  (m,l)-> QueueX.fromIterable(QueueType.narrow(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<QueueType.µ,T>,T> foldLeftFn = (m,l)-> QueueX.fromIterable(QueueType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<QueueType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> ParallelFold.foldMap(m, fn, QueueType.narrow(l), p);
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> QueueType<T> concat(Queue<T> l1, Queue<T> l2){
@@ -282,6 +288,9 @@ public class QueueInstances {
     private static <T,R> Higher<QueueType.µ,R> flatMap( Higher<QueueType.µ,T> lt, Function<? super T, ? extends  Higher<QueueType.µ,R>> fn){
         return QueueType.widen(QueueX.fromIterable(QueueType.narrowK(lt)).flatMap(fn.andThen(QueueType::narrowK)));
     }
+    private static <T,R> Higher<QueueType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<QueueType.µ,Xor<T,R>>> fn){
+        return QueueType.widen(QueueX.fromIterable(()->TailRec.iterator(initial, fn.andThen(QueueType::narrowK))));
+    }
     private static <T,R> QueueType<R> map(QueueType<T> lt, Function<? super T, ? extends R> fn){
         return QueueType.widen(QueueX.fromIterable(lt).map(fn));
     }
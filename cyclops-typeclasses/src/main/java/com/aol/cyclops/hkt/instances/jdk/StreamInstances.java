@@ -1,7 +1,6 @@
 package com.aol.cyclops.hkt.instances.jdk;
 
 import java.util.function.BiFunction;
-import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -10,8 +9,12 @@ import java.util.stream.Stream;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
+import com.aol.cyclops.hkt.instances.Traversals;
 import com.aol.cyclops.hkt.jdk.StreamType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -21,6 +24,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
 
@@ -152,7 +156,8 @@ public class StreamInstances {
     public static <T,R> Monad<StreamType.µ> monad(){
   
         BiFunction<Higher<StreamType.µ,T>,Function<? super T, ? extends Higher<StreamType.µ,R>>,Higher<StreamType.µ,R>> flatMap = StreamInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<StreamType.µ,Xor<T,R>>>,Higher<StreamType.µ,R>> tailRecM = StreamInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -218,20 +223,7 @@ public class StreamInstances {
      * @return Type class for traversables with traverse / sequence operations
      */
     public static <C2,T> Traverse<StreamType.µ> traverse(){
-        BiFunction<Applicative<C2>,StreamType<Higher<C2, T>>,Higher<C2, StreamType<T>>> sequenceFn = (ap,list) -> {
-        
-            Higher<C2,StreamType<T>> identity = ap.unit(StreamType.widen(Stream.of()));
-
-            BiFunction<Higher<C2,StreamType<T>>,Higher<C2,T>,Higher<C2,StreamType<T>>> combineToStream =   (acc,next) -> ap.apBiFn(ap.unit((a,b) -> StreamType.widen(Stream.concat(a,Stream.of(b)))),acc,next);
-
-            BinaryOperator<Higher<C2,StreamType<T>>> combineStreams = (a,b)-> ap.apBiFn(ap.unit((l1,l2)-> { return StreamType.widen(Stream.concat(l1,l2));}),a,b); ;  
-
-            return list.reduce(identity,
-                              combineToStream,
-                              combineStreams);  
-
-   
-        };
+        BiFunction<Applicative<C2>,StreamType<Higher<C2, T>>,Higher<C2, StreamType<T>>> sequenceFn = (ap,list) -> ap.map(l->StreamType.widen(l.stream()), Traversals.sequence(ap, list::iterator, -1));
         BiFunction<Applicative<C2>,Higher<StreamType.µ,Higher<C2, T>>,Higher<C2, Higher<StreamType.µ,T>>> sequenceNarrow  = 
                                                         (a,b) -> StreamType.widen2(sequenceFn.apply(a, StreamType.narrowK(b)));
         return General.traverse(zippingApplicative(), sequenceNarrow);
@@ -252,10 +244,11 @@ public class StreamInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<StreamType.µ> foldable(){
+    public static <T,R> Foldable<StreamType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<StreamType.µ,T>,T> foldRightFn =  (m,l)-> ReactiveSeq.fromStream(StreamType.narrow(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<StreamType.µ,T>,T> foldLeftFn = (m,l)-> ReactiveSeq.fromStream(StreamType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<StreamType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> ParallelFold.foldMap(m, fn, StreamType.narrow(l)::iterator, p);
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> StreamType<T> concat(Stream<T> l1, Stream<T> l2){
@@ -270,6 +263,9 @@ public class StreamInstances {
     private static <T,R> Higher<StreamType.µ,R> flatMap( Higher<StreamType.µ,T> lt, Function<? super T, ? extends  Higher<StreamType.µ,R>> fn){
         return StreamType.widen(StreamType.narrowK(lt).flatMap(fn.andThen(StreamType::narrowK)));
     }
+    private static <T,R> Higher<StreamType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<StreamType.µ,Xor<T,R>>> fn){
+        return StreamType.widen(ReactiveSeq.fromIterator(TailRec.iterator(initial, fn.andThen(h->ReactiveSeq.fromStream(StreamType.narrow(h))))));
+    }
     private static <T,R> StreamType<R> map(StreamType<T> lt, Function<? super T, ? extends R> fn){
         return StreamType.widen(lt.map(fn));
     }
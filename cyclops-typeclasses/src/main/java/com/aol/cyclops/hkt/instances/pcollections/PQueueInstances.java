@@ -7,9 +7,12 @@ import java.util.function.Function;
 import org.pcollections.PQueue;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.persistent.PQueueX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.pcollections.PQueueType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -19,6 +22,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
 
@@ -151,7 +155,8 @@ public class PQueueInstances {
     public static <T,R> Monad<PQueueType.µ> monad(){
   
         BiFunction<Higher<PQueueType.µ,T>,Function<? super T, ? extends Higher<PQueueType.µ,R>>,Higher<PQueueType.µ,R>> flatMap = PQueueInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<PQueueType.µ,Xor<T,R>>>,Higher<PQueueType.µ,R>> tailRecM = PQueueInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -251,10 +256,11 @@ public class PQueueInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<PQueueType.µ> foldable(){
+    public static <T,R> Foldable<PQueueType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<PQueueType.µ,T>,T> foldRightFn =  (m,l)-> PQueueX.fromIterable(PQueueType.narrow(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<PQueueType.µ,T>,T> foldLeftFn = (m,l)-> PQueueX.fromIterable(PQueueType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<PQueueType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> ParallelFold.foldMap(m, fn, PQueueType.narrow(l), p);
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> PQueueType<T> concat(PQueue<T> l1, PQueue<T> l2){
@@ -270,6 +276,9 @@ public class PQueueInstances {
     private static <T,R> Higher<PQueueType.µ,R> flatMap( Higher<PQueueType.µ,T> lt, Function<? super T, ? extends  Higher<PQueueType.µ,R>> fn){
         return PQueueType.widen(PQueueX.fromIterable(PQueueType.narrowK(lt)).flatMap(fn.andThen(PQueueType::narrowK)));
     }
+    private static <T,R> Higher<PQueueType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<PQueueType.µ,Xor<T,R>>> fn){
+        return PQueueType.widen(PQueueX.fromIterable(()->TailRec.iterator(initial, fn.andThen(PQueueType::narrowK))));
+    }
     private static <T,R> PQueueType<R> map(PQueueType<T> lt, Function<? super T, ? extends R> fn){
         return PQueueType.widen(PQueueX.fromIterable(lt).map(fn));
     }
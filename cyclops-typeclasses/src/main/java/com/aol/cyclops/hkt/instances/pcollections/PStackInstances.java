@@ -7,9 +7,12 @@ import java.util.function.Function;
 import org.pcollections.PStack;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.persistent.PStackX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.pcollections.PStackType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -19,6 +22,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
 
@@ -151,7 +155,8 @@ public class PStackInstances {
     public static <T,R> Monad<PStackType.µ> monad(){
   
         BiFunction<Higher<PStackType.µ,T>,Function<? super T, ? extends Higher<PStackType.µ,R>>,Higher<PStackType.µ,R>> flatMap = PStackInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<PStackType.µ,Xor<T,R>>>,Higher<PStackType.µ,R>> tailRecM = PStackInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -251,10 +256,11 @@ public class PStackInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<PStackType.µ> foldable(){
+    public static <T,R> Foldable<PStackType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<PStackType.µ,T>,T> foldRightFn =  (m,l)-> PStackX.fromIterable(PStackType.narrow(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<PStackType.µ,T>,T> foldLeftFn = (m,l)-> PStackX.fromIterable(PStackType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<PStackType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> ParallelFold.foldMap(m, fn, PStackType.narrow(l), p);
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> PStackType<T> concat(PStack<T> l1, PStack<T> l2){
@@ -270,6 +276,9 @@ public class PStackInstances {
     private static <T,R> Higher<PStackType.µ,R> flatMap( Higher<PStackType.µ,T> lt, Function<? super T, ? extends  Higher<PStackType.µ,R>> fn){
         return PStackType.widen(PStackX.fromIterable(PStackType.narrowK(lt)).flatMap(fn.andThen(PStackType::narrowK)));
     }
+    private static <T,R> Higher<PStackType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<PStackType.µ,Xor<T,R>>> fn){
+        return PStackType.widen(PStackX.fromIterable(()->TailRec.iterator(initial, fn.andThen(PStackType::narrowK))));
+    }
     private static <T,R> PStackType<R> map(PStackType<T> lt, Function<? super T, ? extends R> fn){
         return PStackType.widen(PStackX.fromIterable(lt).map(fn));
     }
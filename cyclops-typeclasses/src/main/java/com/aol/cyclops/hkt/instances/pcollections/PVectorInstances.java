@@ -7,9 +7,12 @@ import java.util.function.Function;
 import org.pcollections.PVector;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.instances.General;
+import com.aol.cyclops.hkt.instances.ParallelFold;
+import com.aol.cyclops.hkt.instances.TailRec;
 import com.aol.cyclops.hkt.pcollections.PVectorType;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
@@ -19,6 +22,7 @@ import com.aol.cyclops.hkt.typeclasses.monad.Monad;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadPlus;
 import com.aol.cyclops.hkt.typeclasses.monad.MonadZero;
 import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
+import com.aol.cyclops.util.function.QuadFunction;
 
 import lombok.experimental.UtilityClass;
 
@@ -151,7 +155,8 @@ public class PVectorInstances {
     public static <T,R> Monad<PVectorType.µ> monad(){
   
         BiFunction<Higher<PVectorType.µ,T>,Function<? super T, ? extends Higher<PVectorType.µ,R>>,Higher<PVectorType.µ,R>> flatMap = PVectorInstances::flatMap;
-        return General.monad(zippingApplicative(), flatMap);
+        BiFunction<T,Function<? super T, ? extends Higher<PVectorType.µ,Xor<T,R>>>,Higher<PVectorType.µ,R>> tailRecM = PVectorInstances::tailRecM;
+        return General.monad(zippingApplicative(), flatMap, tailRecM);
     }
     /**
      * 
@@ -251,10 +256,11 @@ public class PVectorInstances {
      * 
      * @return Type class for folding / reduction operations
      */
-    public static <T> Foldable<PVectorType.µ> foldable(){
+    public static <T,R> Foldable<PVectorType.µ> foldable(){
         BiFunction<Monoid<T>,Higher<PVectorType.µ,T>,T> foldRightFn =  (m,l)-> PVectorX.fromIterable(PVectorType.narrow(l)).foldRight(m);
         BiFunction<Monoid<T>,Higher<PVectorType.µ,T>,T> foldLeftFn = (m,l)-> PVectorX.fromIterable(PVectorType.narrow(l)).reduce(m);
-        return General.foldable(foldRightFn, foldLeftFn);
+        QuadFunction<Monoid<R>,Function<? super T,? extends R>,Higher<PVectorType.µ,T>,Integer,R> foldMapFn = (m,fn,l,p)-> ParallelFold.foldMap(m, fn, PVectorType.narrow(l), p);
+        return General.foldable(foldRightFn, foldLeftFn, foldMapFn);
     }
   
     private static  <T> PVectorType<T> concat(PVector<T> l1, PVector<T> l2){
@@ -270,6 +276,9 @@ public class PVectorInstances {
     private static <T,R> Higher<PVectorType.µ,R> flatMap( Higher<PVectorType.µ,T> lt, Function<? super T, ? extends  Higher<PVectorType.µ,R>> fn){
         return PVectorType.widen(PVectorX.fromIterable(PVectorType.narrowK(lt)).flatMap(fn.andThen(PVectorType::narrowK)));
     }
+    private static <T,R> Higher<PVectorType.µ,R> tailRecM(T initial, Function<? super T, ? extends Higher<PVectorType.µ,Xor<T,R>>> fn){
+        return PVectorType.widen(PVectorX.fromIterable(()->TailRec.iterator(initial, fn.andThen(PVectorType::narrowK))));
+    }
     private static <T,R> PVectorType<R> map(PVectorType<T> lt, Function<? super T, ? extends R> fn){
         return PVectorType.widen(PVectorX.fromIterable(lt).map(fn));
     }
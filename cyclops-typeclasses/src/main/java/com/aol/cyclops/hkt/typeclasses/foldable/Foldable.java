@@ -1,6 +1,7 @@
 package com.aol.cyclops.hkt.typeclasses.foldable;
 
 import java.util.function.BinaryOperator;
+import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.hkt.alias.Higher;
@@ -54,4 +55,45 @@ public interface Foldable<CRE> {
     default <T>  T foldLeft(T identity,BinaryOperator<T> semigroup,Higher<CRE,T> ds){
         return foldLeft(Monoid.fromBiFunction(identity, semigroup),ds);
     }
+    
+    /**
+     * Transform each value with the supplied function and combine the results with the supplied Monoid
+     * 
+     * <pre>
+     * {@code 
+     * int totalLength  = ListInstances.foldable()
+                                       .foldMap(Monoids.intSum, (String s)->s.length(), ListType.widen(Arrays.asList("a","bb","ccc")));
+        
+        //6
+     * }
+     * </pre>
+     * 
+     * @param mb Monoid to combine the transformed values
+     * @param fn Function to transform each value
+     * @param ds DataStructure to foldMap
+     * @return Reduced value
+     */
+    default <T,R> R foldMap(Monoid<R> mb, Function<? super T,? extends R> fn, Higher<CRE,T> ds){
+        return parallelFoldMap(mb,fn,ds,1);
+    }
+    
+    /**
+     * Transform each value with the supplied function and combine the results with the supplied Monoid, splitting the
+     * work across up to parallelism threads. As Monoids are associative, segments are folded independently and their
+     * results combined in encounter order, so the result matches {@link #foldMap(Monoid, Function, Higher)}.
+     * 
+     * Foldable instances provided by the *Instances companion classes implement this method. The default implementation
+     * throws an UnsupportedOperationException, as foldRight and foldLeft can only combine values of the element type.
+     * 
+     * @param mb Monoid to combine the transformed values
+     * @param fn Function to transform each value
+     * @param ds DataStructure to foldMap
+     * @param parallelism Max number of threads to use (1 folds sequentially on the calling thread)
+     * @return Reduced value
+     * @throws UnsupportedOperationException if this Foldable does not implement foldMap
+     */
+    default <T,R> R parallelFoldMap(Monoid<R> mb, Function<? super T,? extends R> fn, Higher<CRE,T> ds, int parallelism){
+        throw new UnsupportedOperationException(
+                                                "foldMap is not supported by " + getClass().getName());
+    }
 }
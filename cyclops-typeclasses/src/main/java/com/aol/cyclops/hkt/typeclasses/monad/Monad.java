@@ -5,6 +5,7 @@ import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -13,6 +14,31 @@ public interface Monad<CRE> extends Applicative<CRE>,Functor<CRE>, Unit<CRE>{
     
     public <T,R> Higher<CRE,R> flatMap(Function<? super T,? extends Higher<CRE,R>> fn,Higher<CRE,T> ds);
     
+    /**
+     * Monadic loop: fn is applied to the initial value and then repeatedly to each Xor.secondary value it returns, 
+     * until it returns an Xor.primary value (which becomes the result).
+     * 
+     * <pre>
+     * {@code 
+     *    OptionalType<Integer> result = OptionalInstances.monad()
+     *                                                    .tailRecM(0,i-> OptionalType.widen(Optional.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+     *                                                    .convert(OptionalType::narrowK);
+     *   //Optional[100000]
+     * }
+     * </pre>
+     * 
+     * The default implementation recurses via flatMap and is only stack safe for lazy monads. The Monad instances provided
+     * by the *Instances companion classes override it with constant stack implementations, Monads created via
+     * General.monad without a tailRecM function use the default.
+     * 
+     * @param initial Starting value
+     * @param fn Function that returns the next value to loop with (Xor.secondary) or the result (Xor.primary)
+     * @return Result of the loop
+     */
+    default <T, R> Higher<CRE, R> tailRecM(T initial, Function<? super T, ? extends Higher<CRE, Xor<T, R>>> fn) {
+        return flatMap((Xor<T, R> xor) -> xor.visit(next -> tailRecM(next, fn), result -> unit(result)), fn.apply(initial));
+    }
+    
     default <T>  Higher<CRE,T> flatten(Higher<CRE,Higher<CRE,T>> nested){
         return flatMap(Function.identity(), nested);
     }
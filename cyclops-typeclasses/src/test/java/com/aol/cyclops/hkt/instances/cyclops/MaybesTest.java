@@ -11,6 +11,7 @@ import org.junit.Test;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.EvalType;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
@@ -65,6 +66,14 @@ public class MaybesTest {
                                             .convert(MaybeType::narrowK);
     }
     @Test
+    public void tailRecM(){
+        MaybeType<Integer> opt = MaybeInstances.monad()
+                                            .<Integer,Integer>tailRecM(0, i-> widen(Maybe.just(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                            .convert(MaybeType::narrowK);
+        
+        assertThat(opt,equalTo(Maybe.of(100_000)));
+    }
+    @Test
     public void monad(){
         
         MaybeType<Integer> opt = MaybeInstances.unit()
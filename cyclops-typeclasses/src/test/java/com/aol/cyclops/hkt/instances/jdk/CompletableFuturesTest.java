@@ -13,6 +13,7 @@ import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
@@ -70,6 +71,15 @@ public class CompletableFuturesTest {
                                             .convert(CompletableFutureType::narrowK);
     }
     @Test
+    public void tailRecM(){
+        CompletableFuture<Integer> future = CompletableFutureInstances.monad()
+                                            .<Integer,Integer>tailRecM(0, i-> i<100_000 && i%10_000==0 ? widen(CompletableFuture.supplyAsync(()->Xor.secondary(i+1)))
+                                                                                          : widen(CompletableFuture.completedFuture(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                            .convert(CompletableFutureType::narrow);
+        
+        assertThat(future.join(),equalTo(100_000));
+    }
+    @Test
     public void monad(){
         
         CompletableFutureType<Integer> opt = CompletableFutureInstances.unit()
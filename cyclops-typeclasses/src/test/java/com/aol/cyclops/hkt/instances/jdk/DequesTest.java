@@ -127,6 +127,13 @@ public class DequesTest {
         assertThat(sum,equalTo(10));
     }
     @Test
+    public void  parallelFoldMap(){
+        long sum  = DequeInstances.foldable()
+                        .parallelFoldMap(Monoid.of(0l,(a,b)->a+b), (Integer i)->(long)i, DequeType.widen(DequeX.range(0,10_000)), 4);
+        
+        assertThat(sum,equalTo(49_995_000l));
+    }
+    @Test
     public void traverse(){
        MaybeType<Higher<DequeType.µ, Integer>> res = DequeInstances.traverse()
                                                            .traverseA(MaybeInstances.applicative(), (Integer a)->MaybeType.just(a*2), DequeType.of(1,2,3))
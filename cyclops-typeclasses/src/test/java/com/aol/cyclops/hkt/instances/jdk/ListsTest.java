@@ -7,18 +7,28 @@ import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
+import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.cyclops.EvalType;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.cyclops.MaybeType.µ;
+import com.aol.cyclops.hkt.instances.cyclops.EvalInstances;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
+import com.aol.cyclops.hkt.jdk.CompletableFutureType;
 import com.aol.cyclops.hkt.jdk.ListType;
+import com.aol.cyclops.hkt.jdk.OptionalType;
+import com.aol.cyclops.hkt.typeclasses.foldable.Foldable;
 import com.aol.cyclops.util.function.Lambda;
 
 public class ListsTest {
@@ -70,6 +80,22 @@ public class ListsTest {
                                       .convert(ListType::narrowK);
     }
     @Test
+    public void tailRecM(){
+        ListType<Integer> list = ListInstances.monad()
+                                      .<Integer,Integer>tailRecM(0, i-> i<100_000 ? widen(Arrays.asList(Xor.secondary(i+1))) : widen(Arrays.asList(Xor.primary(i),Xor.primary(-i))))
+                                      .convert(ListType::narrowK);
+        
+        assertThat(list,equalTo(Arrays.asList(100_000,-100_000)));
+    }
+    @Test
+    public void tailRecMDepthFirst(){
+        ListType<Integer> list = ListInstances.monad()
+                                      .<Integer,Integer>tailRecM(0, i-> i<3 ? widen(Arrays.asList(Xor.secondary(i+1),Xor.primary(i))) : widen(Arrays.asList(Xor.primary(i))))
+                                      .convert(ListType::narrowK);
+        
+        assertThat(list,equalTo(Arrays.asList(3,2,1,0)));
+    }
+    @Test
     public void monad(){
         
         ListType<Integer> list = ListInstances.unit()
@@ -130,6 +156,33 @@ public class ListsTest {
         
         assertThat(sum,equalTo(10));
     }
+    @Test
+    public void  foldMap(){
+        int length  = ListInstances.foldable()
+                        .foldMap(Monoid.of(0,(a,b)->a+b), (String s)->s.length(), ListType.widen(Arrays.asList("a","bb","ccc")));
+        
+        assertThat(length,equalTo(6));
+    }
+    @Test
+    public void  parallelFoldMap(){
+        ListX<Integer> values = ListX.range(0,10_000);
+        String result  = ListInstances.foldable()
+                        .parallelFoldMap(Monoid.of("",(a,b)->a+b), (Integer i)->i+",", ListType.widen(values), 4);
+        
+        assertThat(result,equalTo(values.stream().map(i->i+",").collect(Collectors.joining())));
+    }
+    @Test(expected=UnsupportedOperationException.class)
+    public void  foldMapWithoutFoldMapFn(){
+        Foldable<ListType.µ> foldable = new Foldable<ListType.µ>(){
+            public <T> T foldRight(Monoid<T> monoid, Higher<ListType.µ,T> ds){
+                return ListX.fromIterable(ListType.narrow(ds)).foldRight(monoid);
+            }
+            public <T> T foldLeft(Monoid<T> monoid, Higher<ListType.µ,T> ds){
+                return ListX.fromIterable(ListType.narrow(ds)).reduce(monoid);
+            }
+        };
+        foldable.foldMap(Monoid.of("",(a,b)->a+b), (Integer i)->i+",", ListType.widen(Arrays.asList(1,2,3)));
+    }
     
     @Test
     public void traverse(){
@@ -140,5 +193,47 @@ public class ListsTest {
        
        assertThat(res,equalTo(Maybe.just(ListX.of(2,4,6))));
     }
+    @Test
+    public void traverseLarge(){
+       MaybeType<Higher<ListType.µ, Integer>> res = ListInstances.traverse()
+                                                         .traverseA(MaybeInstances.applicative(), (Integer a)->MaybeType.just(a*2), ListType.widen(ListX.range(0,100_000)))
+                                                         .convert(MaybeType::narrowK);
+       
+       assertThat(res.get().convert(ListType::narrowK).size(),equalTo(100_000));
+       assertThat(res.get().convert(ListType::narrowK).get(99_999),equalTo(199_998));
+    }
+    @Test
+    public void traverseNone(){
+       MaybeType<Higher<ListType.µ, Integer>> res = ListInstances.traverse()
+                                                         .traverseA(MaybeInstances.applicative(), (Integer a)->a==2 ? MaybeType.widen(Maybe.none()) : MaybeType.just(a), ListType.of(1,2,3))
+                                                         .convert(MaybeType::narrowK);
+       
+       assertThat(res,equalTo(Maybe.none()));
+    }
+    @Test
+    public void sequenceOptional(){
+       OptionalType<Higher<ListType.µ, Integer>> res = ListInstances.traverse()
+                                                         .sequenceA(OptionalInstances.applicative(), ListType.of(OptionalType.of(1),OptionalType.of(2)))
+                                                         .convert(OptionalType::narrowK);
+       
+       assertThat(res.map(ListType::narrowK),equalTo(Optional.of(Arrays.asList(1,2))));
+    }
+    @Test
+    public void sequenceFutures(){
+       CompletableFuture<Higher<ListType.µ, Integer>> res = ListInstances.traverse()
+                                                         .sequenceA(CompletableFutureInstances.applicative(), ListType.of(CompletableFutureType.completedFuture(1),
+                                                                                                                          CompletableFutureType.widen(CompletableFuture.supplyAsync(()->2))))
+                                                         .convert(CompletableFutureType::narrow);
+       
+       assertThat(ListType.narrowK(res.join()),equalTo(Arrays.asList(1,2)));
+    }
+    @Test
+    public void traverseEval(){
+       EvalType<Higher<ListType.µ, Integer>> res = ListInstances.traverse()
+                                                         .traverseA(EvalInstances.applicative(), (Integer a)->EvalType.widen(Eval.now(a)), ListType.widen(ListX.range(0,1_000)))
+                                                         .convert(EvalType::narrowK);
+       
+       assertThat(ListType.narrowK(res.get()),equalTo(ListX.range(0,1_000)));
+    }
     
 }
@@ -11,6 +11,7 @@ import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
@@ -70,6 +71,14 @@ public class OptionalsTest {
                                             .convert(OptionalType::narrowK);
     }
     @Test
+    public void tailRecM(){
+        OptionalType<Integer> opt = OptionalInstances.monad()
+                                            .<Integer,Integer>tailRecM(0, i-> widen(Optional.of(i<100_000 ? Xor.secondary(i+1) : Xor.primary(i))))
+                                            .convert(OptionalType::narrowK);
+        
+        assertThat(opt,equalTo(Optional.of(100_000)));
+    }
+    @Test
     public void monad(){
         
         OptionalType<Integer> opt = OptionalInstances.unit()
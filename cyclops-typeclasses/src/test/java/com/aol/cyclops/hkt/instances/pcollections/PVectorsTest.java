@@ -126,6 +126,13 @@ public class PVectorsTest {
         
         assertThat(sum,equalTo(10));
     }
+    @Test
+    public void  parallelFoldMap(){
+        long sum  = PVectorInstances.foldable()
+                        .parallelFoldMap(Monoid.of(0l,(a,b)->a+b), (Integer i)->(long)i, PVectorType.widen(PVectorX.range(0,10_000)), 4);
+        
+        assertThat(sum,equalTo(49_995_000l));
+    }
     
     @Test
     public void traverse(){